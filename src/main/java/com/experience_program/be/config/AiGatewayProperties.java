@@ -0,0 +1,45 @@
+package com.experience_program.be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.gateway")
+public class AiGatewayProperties {
+
+    // AI 서버 연결 공통 설정
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private int maxConnections = 100;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    // 엔드포인트별 설정 (generate, refine, interactive, knowledge)
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    public Endpoint endpoint(String name) {
+        return endpoints.getOrDefault(name, new Endpoint());
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        // 응답 대기 시간 (스트리밍은 이벤트 사이의 최대 간격)
+        private Duration responseTimeout = Duration.ofSeconds(30);
+        // 동시에 보낼 수 있는 최대 요청 수 (bulkhead)
+        private int maxInFlight = 20;
+        private int maxRetries = 2;
+        private Duration retryBackoff = Duration.ofMillis(500);
+        // 연속 실패가 이 횟수에 도달하면 서킷을 열고 openDuration 동안 즉시 실패
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        // 요청 1건당 적립되는 재시도 가능 횟수 (0.1 = 재시도는 전체 요청의 10% 이내)
+        private double retryBudgetRatio = 0.1;
+        // 트래픽이 적을 때도 허용할 최소 재시도 여유분
+        private int minRetryBudget = 10;
+    }
+}
@@ -1,15 +1,21 @@
 package com.experience_program.be.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@EnableConfigurationProperties(AiGatewayProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Value("${ai.server.url}")
@@ -25,9 +31,18 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(AiGatewayProperties gatewayProperties) {
+        // AI 서버 연결 수와 연결 대기 시간을 제한 (응답 타임아웃은 AiGateway에서 엔드포인트별로 적용)
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("ai-server")
+                .maxConnections(gatewayProperties.getMaxConnections())
+                .pendingAcquireTimeout(gatewayProperties.getPendingAcquireTimeout())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) gatewayProperties.getConnectTimeout().toMillis());
+
         return WebClient.builder()
                 .baseUrl(aiServerUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
@@ -2,27 +2,55 @@ package com.experience_program.be.controller;
 
 import com.experience_program.be.dto.*;
 import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.service.CampaignExportService;
+import com.experience_program.be.service.CampaignPerformanceImportService;
 import com.experience_program.be.service.CampaignService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/campaigns" )
 public class CampaignController {
 
     private final CampaignService campaignService;
+    private final CampaignPerformanceImportService campaignPerformanceImportService;
+    private final CampaignExportService campaignExportService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public CampaignController(CampaignService campaignService) {
+    public CampaignController(CampaignService campaignService, CampaignPerformanceImportService campaignPerformanceImportService,
+                              CampaignExportService campaignExportService, ObjectMapper objectMapper) {
         this.campaignService = campaignService;
+        this.campaignPerformanceImportService = campaignPerformanceImportService;
+        this.campaignExportService = campaignExportService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/build/interactive")
@@ -31,30 +59,140 @@ public class CampaignController {
         return ResponseEntity.ok(response);
     }
 
+    // AI 응답을 기다리는 동안 서블릿 스레드를 반환하는 비동기 버전
+    @PostMapping("/build/interactive/async")
+    public Mono<ResponseEntity<CampaignChatResponseDto>> handleInteractiveBuildAsync(@RequestBody CampaignChatRequestDto request) {
+        return campaignService.handleInteractiveBuildAsync(request)
+                .map(ResponseEntity::ok);
+    }
+
+    // AI 응답을 생성되는 대로 SSE(chunk 이벤트)로 전달하고, 마지막에 final 이벤트로 캠페인 데이터를 전달
+    @PostMapping(value = "/build/interactive/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamInteractiveBuild(@RequestBody CampaignChatRequestDto request) {
+        return campaignService.streamInteractiveBuild(request);
+    }
+
+    // 브라우저 EventSource는 GET만 지원하므로 쿼리 파라미터로도 받을 수 있게 함
+    @GetMapping(value = "/build/interactive/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamInteractiveBuild(
+            @RequestParam(name = "conversation_id", required = false) String conversationId,
+            @RequestParam(name = "user_message") String userMessage,
+            @RequestParam(name = "marketer_id", required = false) String marketerId) {
+        CampaignChatRequestDto request = new CampaignChatRequestDto();
+        request.setConversationId(conversationId);
+        request.setUserMessage(userMessage);
+        request.setMarketerId(marketerId);
+        return campaignService.streamInteractiveBuild(request);
+    }
+
     @PostMapping
-    public ResponseEntity<Campaign> createCampaign(@Valid @RequestBody CampaignRequestDto campaignRequest) {
-        Campaign createdCampaign = campaignService.createCampaign(campaignRequest);
+    public ResponseEntity<CampaignDetailDto> createCampaign(@Valid @RequestBody CampaignRequestDto campaignRequest) {
+        CampaignDetailDto createdCampaign = campaignService.createCampaign(campaignRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCampaign);
     }
 
+    // 여러 캠페인을 한 번에 생성하고, 생성 진행 상황은 GET /api/campaigns/batch/{batch_id}로 확인
+    @PostMapping("/batch")
+    public ResponseEntity<CampaignBatchResponseDto> createCampaigns(@Valid @RequestBody CampaignBatchRequestDto batchRequest) {
+        CampaignBatchResponseDto createdBatch = campaignService.createCampaigns(batchRequest.getCampaigns());
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdBatch);
+    }
+
+    @GetMapping("/batch/{batch_id}")
+    public ResponseEntity<CampaignBatchStatusDto> getBatchStatus(@PathVariable("batch_id") UUID batchId) {
+        CampaignBatchStatusDto batchStatus = campaignService.getBatchStatus(batchId);
+        return ResponseEntity.ok(batchStatus);
+    }
+
+    // 목록은 요약 정보(CampaignListItemDto)만 반환하며, fields=campaignId,status처럼 필요한 속성만 골라 받을 수 있음
     @GetMapping
-    public ResponseEntity<Page<Campaign>> getAllCampaigns(
+    public ResponseEntity<Page<?>> getAllCampaigns(
             @RequestParam(required = false) LocalDate requestDate,
+            @RequestParam(required = false) LocalDate requestDateFrom,
+            @RequestParam(required = false) LocalDate requestDateTo,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String purpose,
             @RequestParam(required = false) String marketerId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Set<String> fields,
             Pageable pageable
     ) {
-        Page<Campaign> campaigns = campaignService.getAllCampaigns(requestDate, status, purpose, marketerId, pageable);
+        // 조회 전에 필드 이름부터 검증해 결과가 비어 있어도 같은 400 응답을 반환
+        Function<CampaignListItemDto, Map<String, Object>> selector = SparseFieldset.isRequested(fields)
+                ? SparseFieldset.selector(objectMapper, CampaignListItemDto.class, fields) : null;
+        Page<CampaignListItemDto> campaigns = campaignService.getAllCampaigns(requestDate, requestDateFrom, requestDateTo, status, purpose, marketerId, q, pageable);
+        if (selector != null) {
+            return ResponseEntity.ok(campaigns.map(selector));
+        }
         return ResponseEntity.ok(campaigns);
     }
 
+    // 무한 스크롤용 커서 기반 목록 (COUNT 쿼리 없이 after 토큰 다음부터 조회)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<?>> getCampaignsByCursor(
+            @RequestParam(required = false) LocalDate requestDate,
+            @RequestParam(required = false) LocalDate requestDateFrom,
+            @RequestParam(required = false) LocalDate requestDateTo,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String purpose,
+            @RequestParam(required = false) String marketerId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        Function<CampaignListItemDto, Map<String, Object>> selector = SparseFieldset.isRequested(fields)
+                ? SparseFieldset.selector(objectMapper, CampaignListItemDto.class, fields) : null;
+        CursorPageDto<CampaignListItemDto> campaigns = campaignService.getCampaignsByCursor(requestDate, requestDateFrom, requestDateTo,
+                status, purpose, marketerId, after, size);
+        if (selector != null) {
+            List<Map<String, Object>> content = campaigns.getContent().stream()
+                    .map(selector)
+                    .toList();
+            return ResponseEntity.ok(new CursorPageDto<>(content, campaigns.getNextCursor(), campaigns.isHasNext()));
+        }
+        return ResponseEntity.ok(campaigns);
+    }
+
+    // 목록과 같은 필터로 캠페인과 현재 세대 메시지 초안 전체를 내보냄 (format=csv|ndjson)
+    // 수백만 행은 비동기 요청 타임아웃을 넘길 수 있어 요청 스레드에서 직접 응답을 씀
+    @GetMapping("/export")
+    public void exportCampaigns(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) LocalDate requestDate,
+            @RequestParam(required = false) LocalDate requestDateFrom,
+            @RequestParam(required = false) LocalDate requestDateTo,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String purpose,
+            @RequestParam(required = false) String marketerId,
+            HttpServletResponse response
+    ) throws IOException {
+        // 응답 헤더를 쓰기 전에 형식과 필터를 검증해야 오류를 JSON(400)으로 돌려줄 수 있음
+        CampaignExportService.Format exportFormat = CampaignExportService.Format.from(format);
+        Specification<Campaign> spec = CampaignSpecification.withDynamicQuery(requestDate, requestDateFrom, requestDateTo, status, purpose, marketerId);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("campaigns." + exportFormat.getExtension())
+                .build()
+                .toString());
+        campaignExportService.export(exportFormat, spec, response.getOutputStream());
+    }
+
     @GetMapping("/{campaign_id}")
-    public ResponseEntity<Campaign> getCampaignById(@PathVariable("campaign_id") UUID campaignId) {
-        Campaign campaign = campaignService.getCampaignById(campaignId);
+    public ResponseEntity<CampaignDetailDto> getCampaignById(@PathVariable("campaign_id") UUID campaignId) {
+        CampaignDetailDto campaign = campaignService.getCampaignDetail(campaignId);
         return ResponseEntity.ok(campaign);
     }
 
+    // 재생성 전후 초안 비교용: generation을 생략하면 현재 세대
+    @GetMapping("/{campaign_id}/messages")
+    public ResponseEntity<List<MessageResultDto>> getMessageResults(@PathVariable("campaign_id") UUID campaignId,
+                                                                    @RequestParam(required = false) Integer generation) {
+        List<MessageResultDto> messageResults = campaignService.getMessageResults(campaignId, generation);
+        return ResponseEntity.ok(messageResults);
+    }
+
     @PutMapping("/{campaign_id}/selection")
     public ResponseEntity<Void> selectMessage(@PathVariable("campaign_id") UUID campaignId, @RequestBody MessageSelectionDto selectionDto) {
         campaignService.selectMessage(campaignId, selectionDto.getResultIds());
@@ -79,6 +217,15 @@ public class CampaignController {
         return ResponseEntity.ok().build();
     }
 
+    // 광고 플랫폼 성과 CSV(헤더: campaign_id, actual_ctr, conversion_rate, performance_status[, performance_notes])를 일괄 반영
+    @PostMapping(value = "/performance/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PerformanceImportResultDto> importPerformance(@RequestParam("file") MultipartFile file) throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            PerformanceImportResultDto result = campaignPerformanceImportService.importCsv(reader);
+            return ResponseEntity.ok(result);
+        }
+    }
+
     @PostMapping("/{campaign_id}/rag-trigger")
     public ResponseEntity<Void> triggerRagRegistration(@PathVariable("campaign_id") UUID campaignId) {
         campaignService.triggerRagRegistration(campaignId);
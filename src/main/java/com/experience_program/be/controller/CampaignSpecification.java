@@ -1,26 +1,42 @@
 package com.experience_program.be.controller;
 
 import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 public class CampaignSpecification {
 
-    public static Specification<Campaign> withDynamicQuery(LocalDate requestDate, String status, String purpose, String marketerId) {
+    public static Specification<Campaign> withDynamicQuery(LocalDate requestDate, LocalDate requestDateFrom, LocalDate requestDateTo,
+                                                           String status, String purpose, String marketerId) {
+        // 알 수 없는 상태 값은 쿼리를 만들기 전에 바로 거절 (IllegalArgumentException)
+        CampaignStatus statusFilter = StringUtils.hasText(status) ? CampaignStatus.from(status) : null;
+
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
+            // 날짜 조건은 컬럼을 가공하지 않고 [시작, 끝) 범위로 비교해야 request_date 인덱스를 탈 수 있음
             if (requestDate != null) {
-                predicates.add(criteriaBuilder.equal(root.get("requestDate").as(LocalDate.class), requestDate));
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("requestDate"), requestDate.atStartOfDay()));
+                predicates.add(criteriaBuilder.lessThan(root.get("requestDate"), endOfDay(requestDate)));
+            }
+
+            if (requestDateFrom != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("requestDate"), requestDateFrom.atStartOfDay()));
             }
 
-            if (StringUtils.hasText(status)) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), status));
+            if (requestDateTo != null) {
+                predicates.add(criteriaBuilder.lessThan(root.get("requestDate"), endOfDay(requestDateTo)));
+            }
+
+            if (statusFilter != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), statusFilter));
             }
 
             if (StringUtils.hasText(purpose)) {
@@ -34,4 +50,9 @@ public class CampaignSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    // 해당 날짜를 포함하도록 다음 날 0시를 배타적 상한으로 사용
+    private static LocalDateTime endOfDay(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+}
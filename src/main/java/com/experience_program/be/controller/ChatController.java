@@ -1,5 +1,8 @@
 package com.experience_program.be.controller;
 
+import com.experience_program.be.dto.ChatMessageDto;
+import com.experience_program.be.dto.ChatSessionSummaryDto;
+import com.experience_program.be.dto.CursorPageDto;
 import com.experience_program.be.entity.ChatSession;
 import com.experience_program.be.service.ChatService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,9 +26,18 @@ public class ChatController {
     }
 
     @GetMapping("/sessions")
-    public ResponseEntity<Page<ChatSession>> getChatSessions(
+    public ResponseEntity<Page<ChatSessionSummaryDto>> getChatSessions(
             @PageableDefault(sort = "lastUpdatedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<ChatSession> sessions = chatService.getChatSessions(pageable);
+        Page<ChatSessionSummaryDto> sessions = chatService.getChatSessions(pageable);
+        return ResponseEntity.ok(sessions);
+    }
+
+    // 무한 스크롤용 커서 기반 목록 (COUNT 쿼리 없이 after 토큰 다음부터 조회)
+    @GetMapping("/sessions/cursor")
+    public ResponseEntity<CursorPageDto<ChatSessionSummaryDto>> getChatSessionsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<ChatSessionSummaryDto> sessions = chatService.getChatSessionsByCursor(after, size);
         return ResponseEntity.ok(sessions);
     }
 
@@ -35,6 +47,16 @@ public class ChatController {
         return ResponseEntity.ok(sessionDetails);
     }
 
+    // 긴 대화는 최신 메시지부터 나눠서 조회 (before에 이전 응답의 nextCursor 전달)
+    @GetMapping("/sessions/{conversationId}/messages")
+    public ResponseEntity<CursorPageDto<ChatMessageDto>> getChatMessages(
+            @PathVariable String conversationId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDto<ChatMessageDto> messages = chatService.getChatMessages(conversationId, before, size);
+        return ResponseEntity.ok(messages);
+    }
+
     @DeleteMapping("/sessions/{conversationId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteChatSession(@PathVariable String conversationId) {
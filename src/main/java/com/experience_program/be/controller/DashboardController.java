@@ -1,11 +1,13 @@
 package com.experience_program.be.controller;
 
+import com.experience_program.be.dto.CampaignDetailDto;
+import com.experience_program.be.dto.CountDto;
 import com.experience_program.be.dto.MonthlyStatusCountDto;
-import com.experience_program.be.entity.Campaign;
 import com.experience_program.be.service.DashboardService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -29,10 +31,18 @@ public class DashboardController {
         return ResponseEntity.ok(summary);
     }
 
+    // 월별 집계 재계산 (집계 테이블이 실제 캠페인 데이터와 어긋났을 때 복구용)
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<CountDto> rebuildMonthlyCampaignSummary() {
+        CountDto result = new CountDto();
+        result.setCount(dashboardService.rebuildMonthlyCampaignSummary());
+        return ResponseEntity.ok(result);
+    }
+
     // 최근 활동 조회
     @GetMapping("/recent-activity")
-    public ResponseEntity<List<Campaign>> getRecentActivity() {
-        List<Campaign> recentCampaigns = dashboardService.getRecentActivity();
+    public ResponseEntity<List<CampaignDetailDto>> getRecentActivity() {
+        List<CampaignDetailDto> recentCampaigns = dashboardService.getRecentActivity();
         return ResponseEntity.ok(recentCampaigns);
     }
 }
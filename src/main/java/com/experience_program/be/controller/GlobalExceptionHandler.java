@@ -1,6 +1,7 @@
 package com.experience_program.be.controller;
 
 import com.experience_program.be.dto.ErrorResponseDto;
+import com.experience_program.be.service.AiServerUnavailableException;
 import com.experience_program.be.service.ResourceNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -42,6 +43,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    // 503 Service Unavailable - AI 서버 장애로 요청을 즉시 실패 처리
+    @ExceptionHandler(AiServerUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handleAiServerUnavailableException(AiServerUnavailableException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     // 500 Internal Server Error - 그 외 모든 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleAllUncaughtException(Exception ex) {
@@ -1,24 +1,38 @@
 package com.experience_program.be.controller;
 
+import com.experience_program.be.dto.KnowledgeDto;
 import com.experience_program.be.dto.KnowledgeRequestDto;
 import com.experience_program.be.dto.KnowledgeUpdateDto;
+import com.experience_program.be.service.KnowledgeBulkImportService;
 import com.experience_program.be.service.KnowledgeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequestMapping("/api/knowledge")
 public class KnowledgeController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final KnowledgeService knowledgeService;
+    private final KnowledgeBulkImportService knowledgeBulkImportService;
 
     @Autowired
-    public KnowledgeController(KnowledgeService knowledgeService) {
+    public KnowledgeController(KnowledgeService knowledgeService, KnowledgeBulkImportService knowledgeBulkImportService) {
         this.knowledgeService = knowledgeService;
+        this.knowledgeBulkImportService = knowledgeBulkImportService;
     }
 
     @PostMapping
@@ -27,13 +41,27 @@ public class KnowledgeController {
         return ResponseEntity.accepted().build();
     }
 
+    // NDJSON 본문을 스트리밍으로 읽어 등록하고, 줄별 결과를 NDJSON으로 순서대로 응답 (마지막 줄은 요약)
+    // 수천 건 단위 등록은 비동기 요청 타임아웃을 넘길 수 있어 요청 스레드에서 직접 응답을 씀
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON)
+    public void bulkRegisterKnowledge(@RequestParam(name = "from_line", defaultValue = "1") long fromLine,
+                                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (fromLine < 1) {
+            throw new IllegalArgumentException("from_line은 1 이상이어야 합니다.");
+        }
+        response.setContentType(APPLICATION_NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        knowledgeBulkImportService.importNdjson(reader, response.getWriter(), fromLine);
+    }
+
     @GetMapping
-    public Mono<ResponseEntity<Object>> getAllKnowledge(
+    public ResponseEntity<Page<KnowledgeDto>> getAllKnowledge(
             @RequestParam(name = "title", required = false) String title,
             @RequestParam(name = "source_type", required = false) String sourceType,
             Pageable pageable) {
-        return knowledgeService.getAllKnowledge(title, sourceType, pageable)
-                .map(ResponseEntity::ok);
+        Page<KnowledgeDto> knowledge = knowledgeService.getAllKnowledge(title, sourceType, pageable);
+        return ResponseEntity.ok(knowledge);
     }
 
     @GetMapping("/{knowledgeId}")
@@ -0,0 +1,51 @@
+package com.experience_program.be.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * fields= 파라미터로 요청한 JSON 속성만 남기는 sparse fieldset 처리.
+ * 알 수 없는 속성 이름은 결과 유무와 관계없이 DTO의 직렬화 속성 목록과 비교해 미리 IllegalArgumentException(400)으로 거절한다.
+ */
+final class SparseFieldset {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private SparseFieldset() {
+    }
+
+    static boolean isRequested(Set<String> fields) {
+        return fields != null && !fields.isEmpty();
+    }
+
+    static <T> Function<T, Map<String, Object>> selector(ObjectMapper objectMapper, Class<T> type, Set<String> fields) {
+        Set<String> unknown = new TreeSet<>(fields);
+        unknown.removeAll(propertyNames(objectMapper, type));
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 필드입니다: " + String.join(", ", unknown));
+        }
+        return item -> {
+            Map<String, Object> properties = objectMapper.convertValue(item, MAP_TYPE);
+            properties.keySet().retainAll(fields);
+            return properties;
+        };
+    }
+
+    private static Set<String> propertyNames(ObjectMapper objectMapper, Class<?> type) {
+        Set<String> names = new TreeSet<>();
+        for (BeanPropertyDefinition property : objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type)).findProperties()) {
+            if (property.couldSerialize()) {
+                names.add(property.getName());
+            }
+        }
+        return names;
+    }
+}
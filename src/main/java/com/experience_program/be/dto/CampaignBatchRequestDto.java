@@ -0,0 +1,21 @@
+package com.experience_program.be.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CampaignBatchRequestDto {
+
+    // 요청 검증 단계의 상한. 운영 상한(campaigns.batch.max-size)은 이 값 이하로 더 낮게 둘 수 있음
+    public static final int MAX_CAMPAIGNS = 500;
+
+    @NotEmpty(message = "생성할 캠페인이 한 건 이상 필요합니다.")
+    @Size(max = MAX_CAMPAIGNS, message = "한 번에 생성할 수 있는 캠페인은 최대 " + MAX_CAMPAIGNS + "건입니다.")
+    private List<@Valid CampaignRequestDto> campaigns;
+}
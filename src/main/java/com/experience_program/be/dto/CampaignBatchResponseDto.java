@@ -0,0 +1,15 @@
+package com.experience_program.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CampaignBatchResponseDto {
+    private UUID batchId;
+    // 요청 본문의 campaigns와 같은 순서
+    private List<UUID> campaignIds;
+}
@@ -0,0 +1,21 @@
+package com.experience_program.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CampaignBatchStatusDto {
+    private UUID batchId;
+    private long total;
+    // AI 생성/재생성 결과를 기다리는 캠페인 수
+    private long generating;
+    private long generated;
+    private long failed;
+    // 생성을 기다리는 캠페인이 없으면 true
+    private boolean finished;
+    private Map<String, Long> statusCounts;
+}
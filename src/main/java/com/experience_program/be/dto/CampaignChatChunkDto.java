@@ -0,0 +1,14 @@
+package com.experience_program.be.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class CampaignChatChunkDto {
+    @JsonProperty("ai_response")
+    private String aiResponse;
+}
@@ -12,4 +12,8 @@ public class CampaignChatRequestDto {
 
     @JsonProperty("user_message")
     private String userMessage;
+
+    // 세션 보관 정책(마케터별 개수 제한)에만 사용하며 AI 서버로는 전달하지 않음
+    @JsonProperty(value = "marketer_id", access = JsonProperty.Access.WRITE_ONLY)
+    private String marketerId;
 }
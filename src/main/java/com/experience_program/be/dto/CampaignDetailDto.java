@@ -0,0 +1,74 @@
+package com.experience_program.be.dto;
+
+import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.MessageResult;
+import com.experience_program.be.entity.PerformanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캠페인 상세 응답. 트랜잭션 안에서 메시지 초안까지 모두 복사해 두므로 직렬화 중에 지연 로딩이 일어나지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignDetailDto {
+    private UUID campaignId;
+    private LocalDateTime requestDate;
+    private String marketerId;
+    private String purpose;
+    private String coreBenefitText;
+    private String sourceUrl;
+    private String customColumns;
+    private CampaignStatus status;
+    private BigDecimal actualCtr;
+    private BigDecimal conversionRate;
+    private PerformanceStatus performanceStatus;
+    private boolean performanceRegistered;
+    private boolean ragRegistered;
+    private String performanceNotes;
+    private int currentGeneration;
+    private LocalDateTime updatedAt;
+    // 현재 세대의 메시지 초안만 포함 (이전 세대는 /messages?generation= 으로 조회)
+    private List<MessageResultDto> messageResults;
+
+    public static CampaignDetailDto from(Campaign campaign) {
+        List<MessageResult> currentResults = campaign.getMessageResults() == null
+                ? List.of()
+                : campaign.getMessageResults().stream()
+                        .filter(result -> result.getGeneration() == campaign.getCurrentGeneration())
+                        .toList();
+        return from(campaign, currentResults);
+    }
+
+    // 메시지 초안을 별도 쿼리로 조회한 경우 (campaign.messageResults는 읽지 않음)
+    public static CampaignDetailDto from(Campaign campaign, List<MessageResult> currentResults) {
+        List<MessageResultDto> messageResults = currentResults.stream()
+                .map(MessageResultDto::from)
+                .toList();
+        return new CampaignDetailDto(
+                campaign.getCampaignId(),
+                campaign.getRequestDate(),
+                campaign.getMarketerId(),
+                campaign.getPurpose(),
+                campaign.getCoreBenefitText(),
+                campaign.getSourceUrl(),
+                campaign.getCustomColumns(),
+                campaign.getStatus(),
+                campaign.getActualCtr(),
+                campaign.getConversionRate(),
+                campaign.getPerformanceStatus(),
+                campaign.isPerformanceRegistered(),
+                campaign.isRagRegistered(),
+                campaign.getPerformanceNotes(),
+                campaign.getCurrentGeneration(),
+                campaign.getUpdatedAt(),
+                messageResults
+        );
+    }
+}
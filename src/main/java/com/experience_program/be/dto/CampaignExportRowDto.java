@@ -0,0 +1,32 @@
+package com.experience_program.be.dto;
+
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.PerformanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 내보내기 한 행: 캠페인 1건 x 현재 세대 메시지 초안 1건 (초안이 없으면 초안 컬럼이 비어 있는 1행)
+@Getter
+@AllArgsConstructor
+public class CampaignExportRowDto {
+    private UUID campaignId;
+    private LocalDateTime requestDate;
+    private String marketerId;
+    private String purpose;
+    private CampaignStatus status;
+    private BigDecimal actualCtr;
+    private BigDecimal conversionRate;
+    private PerformanceStatus performanceStatus;
+    private LocalDateTime updatedAt;
+    private UUID resultId;
+    private Integer generation;
+    private Integer targetGroupIndex;
+    private String targetName;
+    private Integer messageDraftIndex;
+    private String messageText;
+    private Boolean isSelected;
+}
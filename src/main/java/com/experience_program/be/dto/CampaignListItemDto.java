@@ -0,0 +1,30 @@
+package com.experience_program.be.dto;
+
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.PerformanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 캠페인 목록용 요약 정보.
+ * TEXT 컬럼(coreBenefitText, customColumns, performanceNotes)과 메시지 초안은 포함하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignListItemDto {
+    private UUID campaignId;
+    private LocalDateTime requestDate;
+    private String marketerId;
+    private String purpose;
+    private CampaignStatus status;
+    private BigDecimal actualCtr;
+    private BigDecimal conversionRate;
+    private PerformanceStatus performanceStatus;
+    private boolean performanceRegistered;
+    private boolean ragRegistered;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.experience_program.be.dto;
+
+import com.experience_program.be.entity.ChatMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 메시지 페이지 조회용 응답 (세션 정보는 포함하지 않음).
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageDto {
+    private Long id;
+    private String role;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static ChatMessageDto from(ChatMessage chatMessage) {
+        return new ChatMessageDto(
+                chatMessage.getId(),
+                chatMessage.getRole(),
+                chatMessage.getContent(),
+                chatMessage.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.experience_program.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 세션 목록용 요약 정보 (메시지 본문은 포함하지 않음).
+ */
+@Getter
+@AllArgsConstructor
+public class ChatSessionSummaryDto {
+    private String conversationId;
+    private String title;
+    private LocalDateTime lastUpdatedAt;
+    private int messageCount;
+    private String lastMessagePreview;
+}
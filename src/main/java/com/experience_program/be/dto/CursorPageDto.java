@@ -0,0 +1,15 @@
+package com.experience_program.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    // 다음 페이지 요청 시 after 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,30 @@
+package com.experience_program.be.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 등록 결과 보고서의 한 줄 (요청 본문의 줄 번호 기준)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KnowledgeBulkResultDto {
+    private long line;
+
+    // registered / failed
+    private String status;
+
+    @JsonProperty("knowledge_id")
+    private String knowledgeId;
+
+    private String error;
+
+    public static KnowledgeBulkResultDto registered(long line, String knowledgeId) {
+        return new KnowledgeBulkResultDto(line, "registered", knowledgeId, null);
+    }
+
+    public static KnowledgeBulkResultDto failed(long line, String error) {
+        return new KnowledgeBulkResultDto(line, "failed", null, error);
+    }
+}
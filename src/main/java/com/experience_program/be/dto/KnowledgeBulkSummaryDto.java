@@ -0,0 +1,23 @@
+package com.experience_program.be.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 등록 보고서의 마지막 줄
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KnowledgeBulkSummaryDto {
+    private long registered;
+
+    private long failed;
+
+    // 중단된 경우 from_line으로 다시 요청하면 이어서 처리 (전부 처리했으면 마지막 줄 + 1)
+    @JsonProperty("next_line")
+    private long nextLine;
+
+    // AI 서버를 사용할 수 없어 중단한 경우 그 사유 (끝까지 처리했으면 생략)
+    private String error;
+}
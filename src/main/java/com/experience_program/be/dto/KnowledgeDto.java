@@ -1,13 +1,34 @@
 package com.experience_program.be.dto;
 
+import com.experience_program.be.entity.KnowledgeBase;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Getter
 @Setter
 public class KnowledgeDto {
+    private String knowledge_id;
     private String title;
     private String content_text;
     private String source_type;
     private Boolean is_active;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime upload_date;
+    private UUID related_campaign_id;
+
+    public static KnowledgeDto from(KnowledgeBase knowledge) {
+        KnowledgeDto dto = new KnowledgeDto();
+        dto.setKnowledge_id(knowledge.getExternalId());
+        dto.setTitle(knowledge.getTitle());
+        dto.setContent_text(knowledge.getContentText());
+        dto.setSource_type(knowledge.getSourceType());
+        dto.setIs_active(knowledge.isActive());
+        dto.setUpload_date(knowledge.getUploadDate());
+        dto.setRelated_campaign_id(knowledge.getRelatedCampaignId());
+        return dto;
+    }
 }
@@ -9,6 +9,10 @@ import java.util.Map;
 @Getter
 @Setter
 public class KnowledgeRequestDto {
+    // 선택 항목. 지정하면 이 ID로 등록하므로 같은 문서를 다시 보내도 새 지식이 생기지 않음
+    @JsonProperty("knowledge_id")
+    private String knowledgeId;
+
     @JsonProperty("campaign_summary")
     private String campaignSummary;
 
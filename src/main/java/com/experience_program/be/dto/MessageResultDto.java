@@ -0,0 +1,39 @@
+package com.experience_program.be.dto;
+
+import com.experience_program.be.entity.MessageResult;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class MessageResultDto {
+    private UUID resultId;
+    private int generation;
+    private int targetGroupIndex;
+    private String targetName;
+    private String targetFeatures;
+    private String classificationReason;
+    private int messageDraftIndex;
+    private String messageText;
+    @JsonRawValue
+    private String validatorReport;
+    private boolean selected;
+
+    public static MessageResultDto from(MessageResult messageResult) {
+        return new MessageResultDto(
+                messageResult.getResultId(),
+                messageResult.getGeneration(),
+                messageResult.getTargetGroupIndex(),
+                messageResult.getTargetName(),
+                messageResult.getTargetFeatures(),
+                messageResult.getClassificationReason(),
+                messageResult.getMessageDraftIndex(),
+                messageResult.getMessageText(),
+                messageResult.getValidatorReport(),
+                messageResult.isSelected()
+        );
+    }
+}
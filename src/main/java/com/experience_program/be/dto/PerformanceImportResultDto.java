@@ -0,0 +1,27 @@
+package com.experience_program.be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 성과 CSV 일괄 반영 결과
+@Getter
+@AllArgsConstructor
+public class PerformanceImportResultDto {
+    private long totalRows;
+    private long updatedRows;
+    private long failedRows;
+    private List<RowError> errors;
+    // 오류가 너무 많아 errors에 일부만 담은 경우 true
+    private boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        // 헤더를 1행으로 센 CSV 레코드 번호
+        private long row;
+        private String campaignId;
+        private String message;
+    }
+}
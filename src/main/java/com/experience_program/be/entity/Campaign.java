@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -18,11 +19,18 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "campaigns")
+// 상태는 조건부 UPDATE로만 바꾸므로, 엔티티 저장 시 변경하지 않은 컬럼(status 등)을 덮어쓰지 않도록 변경된 컬럼만 UPDATE
+@DynamicUpdate
+@Table(name = "campaigns", indexes = {
+        @Index(name = "idx_campaigns_request_date", columnList = "request_date"),
+        @Index(name = "idx_campaigns_marketer_id_request_date", columnList = "marketer_id, request_date"),
+        @Index(name = "idx_campaigns_status_request_date", columnList = "status, request_date"),
+        @Index(name = "idx_campaigns_batch_id_status", columnList = "batch_id, status")
+})
 public class Campaign {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "campaign_id", updatable = false, nullable = false)
     private UUID campaignId;
 
@@ -47,8 +55,9 @@ public class Campaign {
     @Column(name = "custom_columns", columnDefinition = "TEXT")
     private String customColumns;
 
+    @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 50)
-    private String status;
+    private CampaignStatus status;
 
     @Column(name = "actual_ctr", precision = 5, scale = 2)
     private BigDecimal actualCtr;
@@ -70,6 +79,15 @@ public class Campaign {
     @Column(name = "performance_notes", columnDefinition = "TEXT")
     private String performanceNotes;
 
+    // 현재 화면에 보여주는 메시지 초안 세대 (재생성이 완료될 때마다 1씩 증가)
+    @Builder.Default
+    @Column(name = "current_generation", nullable = false)
+    private int currentGeneration = 1;
+
+    // 일괄 생성(POST /api/campaigns/batch)으로 만들어진 경우 같은 요청의 캠페인끼리 공유
+    @Column(name = "batch_id", updatable = false)
+    private UUID batchId;
+
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
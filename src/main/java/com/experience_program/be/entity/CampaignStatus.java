@@ -0,0 +1,88 @@
+package com.experience_program.be.entity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 캠페인 상태와 허용되는 전이.
+ * 상태 변경은 현재 상태가 대상 상태의 allowedSources()에 포함될 때만 적용된다.
+ */
+public enum CampaignStatus {
+    PROCESSING(Phase.ONGOING),
+    REFINING(Phase.ONGOING),
+    COMPLETED(Phase.ONGOING),
+    MESSAGE_SELECTED(Phase.ONGOING),
+    PERFORMANCE_REGISTERED(Phase.COMPLETED),
+    SUCCESS_CASE(Phase.COMPLETED),
+    RAG_REGISTERED(Phase.COMPLETED),
+    FAILED(Phase.FAILED);
+
+    // 대시보드 집계 구분
+    public enum Phase {
+        ONGOING,
+        COMPLETED,
+        FAILED
+    }
+
+    private static final Map<CampaignStatus, Set<CampaignStatus>> ALLOWED_SOURCES = new EnumMap<>(CampaignStatus.class);
+
+    static {
+        // PROCESSING은 캠페인 생성 시에만 설정됨
+        ALLOWED_SOURCES.put(PROCESSING, EnumSet.noneOf(CampaignStatus.class));
+        ALLOWED_SOURCES.put(REFINING, EnumSet.of(COMPLETED, MESSAGE_SELECTED, FAILED));
+        ALLOWED_SOURCES.put(COMPLETED, EnumSet.of(PROCESSING, REFINING));
+        ALLOWED_SOURCES.put(MESSAGE_SELECTED, EnumSet.of(COMPLETED, MESSAGE_SELECTED));
+        ALLOWED_SOURCES.put(PERFORMANCE_REGISTERED, EnumSet.of(COMPLETED, MESSAGE_SELECTED, PERFORMANCE_REGISTERED, SUCCESS_CASE));
+        ALLOWED_SOURCES.put(SUCCESS_CASE, EnumSet.of(COMPLETED, MESSAGE_SELECTED, PERFORMANCE_REGISTERED, SUCCESS_CASE));
+        ALLOWED_SOURCES.put(RAG_REGISTERED, EnumSet.of(PERFORMANCE_REGISTERED, SUCCESS_CASE));
+        // 생성/재생성 작업이 최종 실패한 경우 (늦게 도착한 실패가 완료 상태를 덮어쓰지 않도록 진행 중 상태에서만 허용)
+        ALLOWED_SOURCES.put(FAILED, EnumSet.of(PROCESSING, REFINING));
+    }
+
+    private final Phase phase;
+
+    CampaignStatus(Phase phase) {
+        this.phase = phase;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public Set<CampaignStatus> allowedSources() {
+        return Collections.unmodifiableSet(ALLOWED_SOURCES.get(this));
+    }
+
+    public boolean canTransitionFrom(CampaignStatus current) {
+        return ALLOWED_SOURCES.get(this).contains(current);
+    }
+
+    public static Set<CampaignStatus> inPhase(Phase phase) {
+        EnumSet<CampaignStatus> statuses = EnumSet.noneOf(CampaignStatus.class);
+        Arrays.stream(values()).filter(status -> status.phase == phase).forEach(statuses::add);
+        return statuses;
+    }
+
+    // 성과 등록 후 상태: 성공이면 성공 사례, 실패/미정이면 성과 등록 완료
+    public static CampaignStatus afterPerformance(PerformanceStatus performanceStatus) {
+        return performanceStatus == PerformanceStatus.SUCCESS ? SUCCESS_CASE : PERFORMANCE_REGISTERED;
+    }
+
+    // 요청 파라미터의 문자열 값을 변환 (알 수 없는 값이면 IllegalArgumentException)
+    public static CampaignStatus from(String value) {
+        return find(value)
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 캠페인 상태입니다: " + value));
+    }
+
+    // 집계 테이블처럼 예전 상태 값이 남아 있을 수 있는 곳에서 사용 (알 수 없는 값이면 빈 Optional)
+    public static Optional<CampaignStatus> find(String value) {
+        return Arrays.stream(values())
+                .filter(status -> status.name().equals(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,24 @@
+package com.experience_program.be.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 월별/상태별 캠페인 수 집계 테이블.
+ * 캠페인 상태가 바뀔 때마다 같은 트랜잭션에서 갱신되어, 대시보드가 campaigns 테이블을 다시 읽지 않아도 된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "campaign_monthly_status_counts")
+public class CampaignStatusMonthlyCount {
+
+    @EmbeddedId
+    private CampaignStatusMonthlyCountId id;
+
+    @Column(name = "campaign_count", nullable = false)
+    private long campaignCount;
+}
@@ -0,0 +1,23 @@
+package com.experience_program.be.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class CampaignStatusMonthlyCountId implements Serializable {
+
+    // 캠페인 요청 월 (yyyy-MM)
+    @Column(name = "request_month", length = 7, nullable = false)
+    private String requestMonth;
+
+    @Column(name = "status", length = 50, nullable = false)
+    private String status;
+}
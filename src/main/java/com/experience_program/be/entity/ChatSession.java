@@ -15,7 +15,10 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "chat_sessions")
+@Table(name = "chat_sessions", indexes = {
+        @Index(name = "idx_chat_sessions_last_updated_at", columnList = "last_updated_at"),
+        @Index(name = "idx_chat_sessions_marketer_id_last_updated_at", columnList = "marketer_id, last_updated_at")
+})
 public class ChatSession {
 
     @Id
@@ -25,6 +28,15 @@ public class ChatSession {
     @Column(name = "title")
     private String title;
 
+    @Column(name = "marketer_id")
+    private String marketerId;
+
+    @Column(name = "message_count", nullable = false)
+    private int messageCount;
+
+    @Column(name = "last_message_preview", length = 200)
+    private String lastMessagePreview;
+
     @UpdateTimestamp
     @Column(name = "last_updated_at")
     private LocalDateTime lastUpdatedAt;
@@ -0,0 +1,68 @@
+package com.experience_program.be.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "generation_jobs", indexes = {
+        @Index(name = "idx_generation_jobs_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_generation_jobs_campaign_id", columnList = "campaign_id")
+})
+public class GenerationJob {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "job_id", updatable = false, nullable = false)
+    private UUID jobId;
+
+    @Column(name = "campaign_id", nullable = false, updatable = false)
+    private UUID campaignId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, updatable = false)
+    private GenerationJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private GenerationJobStatus status;
+
+    // AI 서버로 보낼 요청 본문(JSON)
+    @Lob
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 작업을 점유한 인스턴스와 점유 만료 시각 (만료되면 다른 인스턴스가 다시 가져갈 수 있음)
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Lob
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,8 @@
+package com.experience_program.be.entity;
+
+public enum GenerationJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    DEAD
+}
@@ -0,0 +1,6 @@
+package com.experience_program.be.entity;
+
+public enum GenerationJobType {
+    GENERATE,
+    REFINE
+}
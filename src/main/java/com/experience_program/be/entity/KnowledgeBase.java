@@ -2,7 +2,6 @@ package com.experience_program.be.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,7 +12,11 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "knowledge_base")
+@Table(name = "knowledge_base", indexes = {
+        @Index(name = "uk_knowledge_base_external_id", columnList = "external_id", unique = true),
+        @Index(name = "idx_knowledge_base_source_type", columnList = "source_type"),
+        @Index(name = "idx_knowledge_base_upload_date", columnList = "upload_date")
+})
 public class KnowledgeBase {
 
     @Id
@@ -21,6 +24,10 @@ public class KnowledgeBase {
     @Column(name = "knowledge_id", updatable = false, nullable = false)
     private UUID knowledgeId;
 
+    // AI 서버에서 사용하는 지식 식별자
+    @Column(name = "external_id")
+    private String externalId;
+
     @Column(name = "title")
     private String title;
 
@@ -31,8 +38,8 @@ public class KnowledgeBase {
     @Column(name = "source_type", length = 50)
     private String sourceType;
 
-    @CreationTimestamp
-    @Column(name = "upload_date", nullable = false, updatable = false)
+    // AI 서버에 등록된 시각 (동기화 시 AI 서버 값으로 맞춤)
+    @Column(name = "upload_date", nullable = false)
     private LocalDateTime uploadDate;
 
     @Column(name = "is_active")
@@ -13,11 +13,13 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "message_results")
+@Table(name = "message_results", indexes = {
+        @Index(name = "idx_message_results_campaign_id_generation", columnList = "campaign_id, generation")
+})
 public class MessageResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "result_id", updatable = false, nullable = false)
     private UUID resultId;
 
@@ -26,6 +28,9 @@ public class MessageResult {
     @JsonBackReference
     private Campaign campaign;
 
+    @Column(name = "generation", nullable = false)
+    private int generation;
+
     @Column(name = "target_group_index")
     private int targetGroupIndex;
 
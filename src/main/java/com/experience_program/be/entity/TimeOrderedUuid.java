@@ -0,0 +1,18 @@
+package com.experience_program.be.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간 순으로 증가하는 UUID(UUIDv7 형식) 식별자를 생성한다.
+ * 새 행이 항상 클러스터드 인덱스의 끝에 추가되므로 무작위 UUID보다 페이지 분할이 적다.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
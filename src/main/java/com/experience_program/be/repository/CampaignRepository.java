@@ -1,24 +1,83 @@
 package com.experience_program.be.repository;
 
 import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CampaignRepository extends JpaRepository<Campaign, UUID>, JpaSpecificationExecutor<Campaign> {
-
-    @Query("SELECT FUNCTION('DATE_FORMAT', c.requestDate, '%Y-%m'), c.status, COUNT(c) " +
-           "FROM Campaign c " +
-           "WHERE c.requestDate >= :startDate " +
-           "GROUP BY FUNCTION('DATE_FORMAT', c.requestDate, '%Y-%m'), c.status")
-    List<Object[]> countMonthlyCampaignsByStatusSince(@Param("startDate") LocalDateTime startDate);
+public interface CampaignRepository extends JpaRepository<Campaign, UUID>, JpaSpecificationExecutor<Campaign>, CampaignRepositoryCustom {
 
     List<Campaign> findTop5ByOrderByRequestDateDesc();
+
+    // 같은 캠페인에 대한 동시 수정을 직렬화하기 위해 캠페인 행에 쓰기 잠금을 걸고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Campaign c WHERE c.campaignId = :campaignId")
+    Optional<Campaign> findByIdForUpdate(@Param("campaignId") UUID campaignId);
+
+    // 상태 전이 판단에 필요한 상태와 요청일만 조회 (잠그지 않음, 경쟁은 compareAndSetStatus의 결과로 판단)
+    @Query("SELECT c.status AS status, c.requestDate AS requestDate FROM Campaign c WHERE c.campaignId = :campaignId")
+    Optional<CampaignStatusSnapshot> findStatusSnapshot(@Param("campaignId") UUID campaignId);
+
+    @Query("SELECT c.status AS status, COUNT(c) AS count FROM Campaign c WHERE c.batchId = :batchId GROUP BY c.status")
+    List<CampaignStatusCount> countByStatusForBatch(@Param("batchId") UUID batchId);
+
+    // 읽어 둔 상태가 그대로일 때만 변경 (compare-and-set), 변경되면 1, 그 사이 다른 전이가 먼저 반영됐으면 0을 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Campaign c SET c.status = :toStatus, c.updatedAt = :now " +
+           "WHERE c.campaignId = :campaignId AND c.status = :expectedStatus")
+    int compareAndSetStatus(@Param("campaignId") UUID campaignId,
+                            @Param("expectedStatus") CampaignStatus expectedStatus,
+                            @Param("toStatus") CampaignStatus toStatus,
+                            @Param("now") LocalDateTime now);
+
+    // 두 전문 검색 인덱스로 각각 찾은 캠페인 ID를 합친 뒤(UNION ALL) 캠페인별로 관련도를 더함
+    // (OR 조건 하나로 묶으면 campaigns 쪽 FULLTEXT 인덱스를 쓰지 못하고 전체를 훑음)
+    String TEXT_SEARCH_FROM =
+            "FROM (" +
+            "    SELECT hits.campaign_id, SUM(hits.score) AS score FROM (" +
+            "        SELECT cm.campaign_id, MATCH(cm.purpose, cm.core_benefit_text) AGAINST (:q IN NATURAL LANGUAGE MODE) AS score " +
+            "        FROM campaigns cm " +
+            "        WHERE MATCH(cm.purpose, cm.core_benefit_text) AGAINST (:q IN NATURAL LANGUAGE MODE) " +
+            "        UNION ALL " +
+            "        SELECT m.campaign_id, MAX(MATCH(m.message_text) AGAINST (:q IN NATURAL LANGUAGE MODE)) AS score " +
+            "        FROM message_results m " +
+            "        JOIN campaigns cg ON cg.campaign_id = m.campaign_id AND cg.current_generation = m.generation " +
+            "        WHERE MATCH(m.message_text) AGAINST (:q IN NATURAL LANGUAGE MODE) " +
+            "        GROUP BY m.campaign_id" +
+            "    ) hits " +
+            "    GROUP BY hits.campaign_id" +
+            ") s " +
+            "JOIN campaigns c ON c.campaign_id = s.campaign_id " +
+            "WHERE (:status IS NULL OR c.status = :status) " +
+            "AND (:purpose IS NULL OR c.purpose LIKE CONCAT('%', :purpose, '%')) " +
+            "AND (:marketerId IS NULL OR c.marketer_id = :marketerId) " +
+            "AND (:fromDate IS NULL OR c.request_date >= :fromDate) " +
+            "AND (:toDate IS NULL OR c.request_date < :toDate) ";
+
+    // 캠페인 목적/핵심 혜택과 메시지 초안 본문을 ngram 전문 검색 인덱스로 찾아 관련도 순으로 정렬한 캠페인 ID 목록
+    @Query(value = "SELECT BIN_TO_UUID(c.campaign_id) " + TEXT_SEARCH_FROM +
+                   "ORDER BY s.score DESC, c.request_date DESC",
+           countQuery = "SELECT COUNT(*) " + TEXT_SEARCH_FROM,
+           nativeQuery = true)
+    Page<String> searchIdsByText(@Param("q") String q,
+                                   @Param("status") String status,
+                                   @Param("purpose") String purpose,
+                                   @Param("marketerId") String marketerId,
+                                   @Param("fromDate") LocalDateTime fromDate,
+                                   @Param("toDate") LocalDateTime toDate,
+                                   Pageable pageable);
 }
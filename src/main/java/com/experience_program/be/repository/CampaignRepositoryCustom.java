@@ -0,0 +1,27 @@
+package com.experience_program.be.repository;
+
+import com.experience_program.be.dto.CampaignExportRowDto;
+import com.experience_program.be.dto.CampaignListItemDto;
+import com.experience_program.be.entity.Campaign;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface CampaignRepositoryCustom {
+
+    Page<CampaignListItemDto> findListItems(Specification<Campaign> spec, Pageable pageable);
+
+    // (requestDate, campaignId) 내림차순 기준으로 주어진 키 다음 항목부터 조회 (키가 null이면 처음부터)
+    List<CampaignListItemDto> findListItemsAfter(Specification<Campaign> spec, LocalDateTime requestDate, UUID campaignId, int limit);
+
+    List<CampaignListItemDto> findListItemsByIds(Collection<UUID> campaignIds);
+
+    // 트랜잭션 안에서 사용하고 반드시 닫아야 함 (결과를 DB에서 한 행씩 읽어 옴)
+    Stream<CampaignExportRowDto> streamExportRows(Specification<Campaign> spec);
+}
@@ -0,0 +1,176 @@
+package com.experience_program.be.repository;
+
+import com.experience_program.be.dto.CampaignExportRowDto;
+import com.experience_program.be.dto.CampaignListItemDto;
+import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.MessageResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 캠페인 목록을 엔티티 대신 CampaignListItemDto 생성자 프로젝션으로 조회한다.
+ * 필요한 컬럼만 SELECT하므로 TEXT 컬럼과 지연 로딩 컬렉션을 건드리지 않는다.
+ */
+public class CampaignRepositoryImpl implements CampaignRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CampaignListItemDto> findListItems(Specification<Campaign> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CampaignListItemDto> query = cb.createQuery(CampaignListItemDto.class);
+        Root<Campaign> root = query.from(Campaign.class);
+        selectListItem(cb, query, root);
+        applySpecification(spec, root, query, cb);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        List<CampaignListItemDto> content = pageable.isPaged()
+                ? entityManager.createQuery(query)
+                        .setFirstResult((int) pageable.getOffset())
+                        .setMaxResults(pageable.getPageSize())
+                        .getResultList()
+                : entityManager.createQuery(query).getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<CampaignListItemDto> findListItemsAfter(Specification<Campaign> spec, LocalDateTime requestDate, UUID campaignId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CampaignListItemDto> query = cb.createQuery(CampaignListItemDto.class);
+        Root<Campaign> root = query.from(Campaign.class);
+        selectListItem(cb, query, root);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate specPredicate = spec.toPredicate(root, query, cb);
+            if (specPredicate != null) {
+                predicates.add(specPredicate);
+            }
+        }
+        if (requestDate != null && campaignId != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(root.get("requestDate"), requestDate),
+                    cb.and(
+                            cb.equal(root.get("requestDate"), requestDate),
+                            cb.lessThan(root.get("campaignId"), campaignId))));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(root.get("requestDate")), cb.desc(root.get("campaignId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<CampaignListItemDto> findListItemsByIds(Collection<UUID> campaignIds) {
+        if (campaignIds.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CampaignListItemDto> query = cb.createQuery(CampaignListItemDto.class);
+        Root<Campaign> root = query.from(Campaign.class);
+        selectListItem(cb, query, root);
+        query.where(root.get("campaignId").in(campaignIds));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * 캠페인과 현재 세대 메시지 초안을 LEFT JOIN한 결과를 스트림으로 반환한다.
+     * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 전송하므로,
+     * 결과 크기와 관계없이 애플리케이션 메모리에는 현재 행만 남는다.
+     */
+    @Override
+    public Stream<CampaignExportRowDto> streamExportRows(Specification<Campaign> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CampaignExportRowDto> query = cb.createQuery(CampaignExportRowDto.class);
+        Root<Campaign> root = query.from(Campaign.class);
+        Join<Campaign, MessageResult> draft = root.join("messageResults", JoinType.LEFT);
+        draft.on(cb.equal(draft.get("generation"), root.get("currentGeneration")));
+
+        query.select(cb.construct(CampaignExportRowDto.class,
+                root.get("campaignId"),
+                root.get("requestDate"),
+                root.get("marketerId"),
+                root.get("purpose"),
+                root.get("status"),
+                root.get("actualCtr"),
+                root.get("conversionRate"),
+                root.get("performanceStatus"),
+                root.get("updatedAt"),
+                draft.get("resultId"),
+                draft.get("generation"),
+                draft.get("targetGroupIndex"),
+                draft.get("targetName"),
+                draft.get("messageDraftIndex"),
+                draft.get("messageText"),
+                draft.get("isSelected")));
+        applySpecification(spec, root, query, cb);
+        // 캠페인 키로만 정렬해야 request_date 인덱스(끝에 campaign_id 포함)를 역순으로 읽으며 filesort 없이 스트리밍됨
+        // 초안 컬럼까지 정렬하면 결과 전체를 모아 정렬한 뒤에야 첫 행을 보낼 수 있음
+        // 한 캠페인의 초안 행은 연속으로 나오며, 초안 사이 순서는 보장하지 않음 (보통 (campaign_id, generation) 인덱스의 생성 순서)
+        query.orderBy(cb.desc(root.get("requestDate")), cb.desc(root.get("campaignId")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void selectListItem(CriteriaBuilder cb, CriteriaQuery<CampaignListItemDto> query, Root<Campaign> root) {
+        query.select(cb.construct(CampaignListItemDto.class,
+                root.get("campaignId"),
+                root.get("requestDate"),
+                root.get("marketerId"),
+                root.get("purpose"),
+                root.get("status"),
+                root.get("actualCtr"),
+                root.get("conversionRate"),
+                root.get("performanceStatus"),
+                root.get("isPerformanceRegistered"),
+                root.get("isRagRegistered"),
+                root.get("updatedAt")));
+    }
+
+    private long count(Specification<Campaign> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Campaign> root = query.from(Campaign.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private <T> void applySpecification(Specification<Campaign> spec, Root<Campaign> root, CriteriaQuery<T> query, CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
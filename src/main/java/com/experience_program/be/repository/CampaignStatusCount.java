@@ -0,0 +1,10 @@
+package com.experience_program.be.repository;
+
+import com.experience_program.be.entity.CampaignStatus;
+
+// 상태별 캠페인 수
+public interface CampaignStatusCount {
+    CampaignStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,35 @@
+package com.experience_program.be.repository;
+
+import com.experience_program.be.entity.CampaignStatusMonthlyCount;
+import com.experience_program.be.entity.CampaignStatusMonthlyCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CampaignStatusMonthlyCountRepository extends JpaRepository<CampaignStatusMonthlyCount, CampaignStatusMonthlyCountId> {
+
+    List<CampaignStatusMonthlyCount> findByIdRequestMonthGreaterThanEqual(String requestMonth);
+
+    @Modifying
+    @Query(value = "INSERT INTO campaign_monthly_status_counts (request_month, status, campaign_count) " +
+                   "VALUES (:requestMonth, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE campaign_count = campaign_count + :delta", nativeQuery = true)
+    int addCount(@Param("requestMonth") String requestMonth, @Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM campaign_monthly_status_counts", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO campaign_monthly_status_counts (request_month, status, campaign_count) " +
+                   "SELECT DATE_FORMAT(request_date, '%Y-%m'), status, COUNT(*) " +
+                   "FROM campaigns " +
+                   "WHERE status IS NOT NULL " +
+                   "GROUP BY DATE_FORMAT(request_date, '%Y-%m'), status", nativeQuery = true)
+    int insertCountsFromCampaigns();
+}
@@ -0,0 +1,12 @@
+package com.experience_program.be.repository;
+
+import com.experience_program.be.entity.CampaignStatus;
+
+import java.time.LocalDateTime;
+
+// 상태 전이 전에 읽는 현재 상태와 집계용 요청일
+public interface CampaignStatusSnapshot {
+    CampaignStatus getStatus();
+
+    LocalDateTime getRequestDate();
+}
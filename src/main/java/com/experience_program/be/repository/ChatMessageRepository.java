@@ -1,9 +1,24 @@
 package com.experience_program.be.repository;
 
 import com.experience_program.be.entity.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    List<ChatMessage> findBySession_ConversationIdOrderByIdDesc(String conversationId, Limit limit);
+
+    List<ChatMessage> findBySession_ConversationIdAndIdLessThanOrderByIdDesc(String conversationId, Long before, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ChatMessage m WHERE m.session.conversationId IN :conversationIds")
+    int deleteAllBySessionIdIn(@Param("conversationIds") Collection<String> conversationIds);
 }
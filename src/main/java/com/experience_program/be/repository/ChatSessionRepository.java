@@ -1,12 +1,78 @@
 package com.experience_program.be.repository;
 
+import com.experience_program.be.dto.ChatSessionSummaryDto;
 import com.experience_program.be.entity.ChatSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatSessionRepository extends JpaRepository<ChatSession, String> {
-    Optional<ChatSession> findFirstByOrderByLastUpdatedAtAsc();
+    String SUMMARY_SELECT = "SELECT new com.experience_program.be.dto.ChatSessionSummaryDto(" +
+            "s.conversationId, s.title, s.lastUpdatedAt, s.messageCount, s.lastMessagePreview) FROM ChatSession s ";
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(s) FROM ChatSession s")
+    Page<ChatSessionSummaryDto> findSummaries(Pageable pageable);
+
+    // (last_updated_at, conversation_id) 내림차순 keyset 조회
+    @Query(SUMMARY_SELECT + "ORDER BY s.lastUpdatedAt DESC, s.conversationId DESC")
+    List<ChatSessionSummaryDto> findLatestSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE s.lastUpdatedAt < :lastUpdatedAt " +
+           "OR (s.lastUpdatedAt = :lastUpdatedAt AND s.conversationId < :conversationId) " +
+           "ORDER BY s.lastUpdatedAt DESC, s.conversationId DESC")
+    List<ChatSessionSummaryDto> findSummariesAfter(@Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+                                                   @Param("conversationId") String conversationId,
+                                                   Limit limit);
+
+    // 세션과 메시지를 한 번의 JOIN 쿼리로 조회
+    @EntityGraph(attributePaths = "messages")
+    Optional<ChatSession> findWithMessagesByConversationId(String conversationId);
+
+    // 세션이 없으면 만들고, 있으면 메시지 수/미리보기/마지막 갱신 시각만 갱신 (제목/마케터는 값이 있을 때만 변경)
+    @Modifying
+    @Query(value = "INSERT INTO chat_sessions (conversation_id, title, marketer_id, message_count, last_message_preview, last_updated_at) " +
+                   "VALUES (:conversationId, :title, :marketerId, :added, :preview, :now) " +
+                   "ON DUPLICATE KEY UPDATE title = COALESCE(:title, title), " +
+                   "marketer_id = COALESCE(:marketerId, marketer_id), " +
+                   "message_count = message_count + :added, " +
+                   "last_message_preview = :preview, " +
+                   "last_updated_at = :now", nativeQuery = true)
+    int upsertForAppend(@Param("conversationId") String conversationId,
+                        @Param("title") String title,
+                        @Param("marketerId") String marketerId,
+                        @Param("added") int added,
+                        @Param("preview") String preview,
+                        @Param("now") LocalDateTime now);
+
+    // 보관 정책 정리 대상 조회 (한 번에 limit개씩)
+    @Query(value = "SELECT conversation_id FROM chat_sessions WHERE last_updated_at < :cutoff LIMIT :limit", nativeQuery = true)
+    List<String> findIdsUpdatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT conversation_id FROM chat_sessions " +
+                   "ORDER BY last_updated_at DESC, conversation_id DESC LIMIT :limit OFFSET :keep", nativeQuery = true)
+    List<String> findIdsBeyondNewest(@Param("keep") int keep, @Param("limit") int limit);
+
+    @Query(value = "SELECT ranked.conversation_id FROM (" +
+                   "    SELECT conversation_id, ROW_NUMBER() OVER (PARTITION BY marketer_id " +
+                   "        ORDER BY last_updated_at DESC, conversation_id DESC) AS rn " +
+                   "    FROM chat_sessions WHERE marketer_id IS NOT NULL" +
+                   ") ranked WHERE ranked.rn > :keep LIMIT :limit", nativeQuery = true)
+    List<String> findIdsBeyondNewestPerMarketer(@Param("keep") int keep, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM ChatSession s WHERE s.conversationId IN :conversationIds")
+    int deleteAllByConversationIdIn(@Param("conversationIds") Collection<String> conversationIds);
 }
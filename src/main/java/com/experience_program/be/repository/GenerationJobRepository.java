@@ -0,0 +1,43 @@
+package com.experience_program.be.repository;
+
+import com.experience_program.be.entity.GenerationJob;
+import com.experience_program.be.entity.GenerationJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GenerationJobRepository extends JpaRepository<GenerationJob, UUID> {
+
+    // 다른 인스턴스가 잠근 행은 건너뛰고 실행 가능한 작업만 잠금 (MySQL 8.0+)
+    @Query(value = "SELECT * FROM generation_jobs " +
+                   "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<GenerationJob> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE GenerationJob j SET j.status = :pending, j.lockedBy = null, j.lockedUntil = null " +
+           "WHERE j.status = :running AND j.lockedUntil < :now")
+    int releaseExpiredLocks(@Param("pending") GenerationJobStatus pending,
+                            @Param("running") GenerationJobStatus running,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE GenerationJob j SET j.status = :pending, j.lockedBy = null, j.lockedUntil = null " +
+           "WHERE j.status = :running AND j.lockedBy = :instanceId")
+    int releaseLocksHeldBy(@Param("pending") GenerationJobStatus pending,
+                           @Param("running") GenerationJobStatus running,
+                           @Param("instanceId") String instanceId);
+
+    @Modifying
+    @Query("DELETE FROM GenerationJob j WHERE j.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") UUID campaignId);
+}
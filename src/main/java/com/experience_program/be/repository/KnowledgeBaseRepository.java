@@ -1,11 +1,35 @@
 package com.experience_program.be.repository;
 
 import com.experience_program.be.entity.KnowledgeBase;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface KnowledgeBaseRepository extends JpaRepository<KnowledgeBase, UUID> {
+public interface KnowledgeBaseRepository extends JpaRepository<KnowledgeBase, UUID>, JpaSpecificationExecutor<KnowledgeBase> {
+
+    Optional<KnowledgeBase> findByExternalId(String externalId);
+
+    List<KnowledgeBase> findByExternalIdIn(Collection<String> externalIds);
+
+    // externalId 순으로 after 다음부터 pageable 크기만큼 조회 (동기화 정리 단계에서 묶음 단위로 사용)
+    @Query("SELECT k.externalId FROM KnowledgeBase k " +
+           "WHERE k.externalId IS NOT NULL AND k.uploadDate < :uploadedBefore AND k.externalId > :after " +
+           "ORDER BY k.externalId")
+    List<String> findExternalIdsUploadedBefore(@Param("uploadedBefore") LocalDateTime uploadedBefore,
+                                               @Param("after") String after, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM KnowledgeBase k WHERE k.externalId IN :externalIds")
+    int deleteByExternalIdIn(@Param("externalIds") Collection<String> externalIds);
 }
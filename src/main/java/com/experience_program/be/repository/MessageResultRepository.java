@@ -1,9 +1,14 @@
 package com.experience_program.be.repository;
 
 import com.experience_program.be.entity.MessageResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +16,39 @@ import java.util.UUID;
 public interface MessageResultRepository extends JpaRepository<MessageResult, UUID> {
     List<MessageResult> findByCampaign_CampaignId(UUID campaignId);
     List<MessageResult> findByCampaign_CampaignIdAndIsSelected(UUID campaignId, boolean isSelected);
+
+    List<MessageResult> findByCampaign_CampaignIdAndGeneration(UUID campaignId, int generation);
+
+    List<MessageResult> findByCampaign_CampaignIdAndGenerationAndIsSelected(UUID campaignId, int generation, boolean isSelected);
+
+    // 여러 캠페인의 현재 세대 초안을 한 번에 조회
+    @Query("SELECT m FROM MessageResult m JOIN m.campaign c " +
+           "WHERE c.campaignId IN :campaignIds AND m.generation = c.currentGeneration " +
+           "ORDER BY m.targetGroupIndex, m.messageDraftIndex")
+    List<MessageResult> findCurrentGenerationByCampaignIds(@Param("campaignIds") Collection<UUID> campaignIds);
+
+    // MySQL 드라이버는 기본적으로 값이 바뀌지 않은 행도 포함한 '일치한 행 수'를 반환하므로 소유권 검증에 사용할 수 있음
+    @Modifying
+    @Query("UPDATE MessageResult m SET m.isSelected = true " +
+           "WHERE m.campaign.campaignId = :campaignId AND m.generation = :generation AND m.resultId IN :resultIds")
+    int markSelected(@Param("campaignId") UUID campaignId, @Param("generation") int generation,
+                     @Param("resultIds") Collection<UUID> resultIds);
+
+    @Modifying
+    @Query("UPDATE MessageResult m SET m.isSelected = false " +
+           "WHERE m.campaign.campaignId = :campaignId AND m.resultId NOT IN :resultIds")
+    int clearSelectionExcept(@Param("campaignId") UUID campaignId, @Param("resultIds") Collection<UUID> resultIds);
+
+    @Modifying
+    @Query("UPDATE MessageResult m SET m.isSelected = false WHERE m.campaign.campaignId = :campaignId")
+    int clearSelection(@Param("campaignId") UUID campaignId);
+
+    // 캠페인의 현재 세대보다 retainedGenerations 이상 오래된 초안 ID를 pageable 크기만큼 조회
+    @Query("SELECT m.resultId FROM MessageResult m JOIN m.campaign c " +
+           "WHERE m.generation <= c.currentGeneration - :retainedGenerations")
+    List<UUID> findStaleGenerationIds(@Param("retainedGenerations") int retainedGenerations, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MessageResult m WHERE m.resultId IN :resultIds")
+    int deleteAllByResultIdIn(@Param("resultIds") Collection<UUID> resultIds);
 }
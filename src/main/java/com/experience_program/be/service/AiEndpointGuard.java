@@ -0,0 +1,160 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.config.AiGatewayProperties;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 엔드포인트 하나에 대한 장애 격리 정책.
+ * 타임아웃, 동시 요청 제한(bulkhead), 서킷 브레이커, 재시도 예산을 한 곳에서 적용한다.
+ */
+class AiEndpointGuard {
+
+    private enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final AiGatewayProperties.Endpoint policy;
+    private final Semaphore bulkhead;
+
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openUntilMillis = 0;
+    private boolean halfOpenProbeInFlight = false;
+
+    private double retryBalance;
+
+    AiEndpointGuard(String name, AiGatewayProperties.Endpoint policy) {
+        this.name = name;
+        this.policy = policy;
+        this.bulkhead = new Semaphore(policy.getMaxInFlight());
+        this.retryBalance = policy.getMinRetryBudget();
+    }
+
+    <T> Mono<T> protect(Supplier<Mono<T>> call) {
+        Mono<T> attempt = Mono.defer(() -> {
+            acquirePermission();
+            return call.get()
+                    .timeout(policy.getResponseTimeout())
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(this::onError)
+                    .doFinally(this::releasePermission);
+        });
+        return Mono.defer(() -> {
+                    depositRetryBudget();
+                    return attempt.retryWhen(Retry.backoff(policy.getMaxRetries(), policy.getRetryBackoff())
+                            .jitter(0.5)
+                            .filter(error -> isTransient(error) && tryWithdrawRetry())
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+                })
+                .onErrorMap(this::isTransient, this::toUnavailable);
+    }
+
+    // 스트리밍 응답은 중간부터 재시도할 수 없으므로 재시도 없이 격리 정책만 적용
+    <T> Flux<T> protectStream(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+                    acquirePermission();
+                    return call.get()
+                            .timeout(policy.getResponseTimeout())
+                            .doOnComplete(this::onSuccess)
+                            .doOnError(this::onError)
+                            .doFinally(this::releasePermission);
+                })
+                .onErrorMap(this::isTransient, this::toUnavailable);
+    }
+
+    private void acquirePermission() {
+        if (!tryEnterCircuit()) {
+            throw new AiServerUnavailableException("AI 서버(" + name + ") 장애로 요청을 일시적으로 차단했습니다.", circuitRetryAtMillis());
+        }
+        if (!bulkhead.tryAcquire()) {
+            releaseHalfOpenProbe();
+            throw new AiServerUnavailableException("AI 서버(" + name + ")에 처리 중인 요청이 너무 많습니다.");
+        }
+    }
+
+    private void releasePermission(SignalType signal) {
+        bulkhead.release();
+        if (signal == SignalType.CANCEL) {
+            releaseHalfOpenProbe();
+        }
+    }
+
+    private Throwable toUnavailable(Throwable error) {
+        return new AiServerUnavailableException("AI 서버(" + name + ")가 응답하지 않습니다. 잠시 후 다시 시도해주세요.", error);
+    }
+
+    private synchronized boolean tryEnterCircuit() {
+        if (circuitState == CircuitState.OPEN) {
+            if (System.currentTimeMillis() < openUntilMillis) {
+                return false;
+            }
+            circuitState = CircuitState.HALF_OPEN;
+        }
+        if (circuitState == CircuitState.HALF_OPEN) {
+            // 반열림 상태에서는 시험 요청 1건만 통과
+            if (halfOpenProbeInFlight) {
+                return false;
+            }
+            halfOpenProbeInFlight = true;
+        }
+        return true;
+    }
+
+    // 열린 서킷은 닫히는 시각, 반열림 상태에서 시험 요청이 진행 중이면 재시도 간격 뒤
+    private synchronized long circuitRetryAtMillis() {
+        long now = System.currentTimeMillis();
+        return Math.max(openUntilMillis, now + policy.getRetryBackoff().toMillis());
+    }
+
+    private synchronized void releaseHalfOpenProbe() {
+        halfOpenProbeInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        circuitState = CircuitState.CLOSED;
+        halfOpenProbeInFlight = false;
+    }
+
+    private synchronized void onError(Throwable error) {
+        halfOpenProbeInFlight = false;
+        if (!isTransient(error)) {
+            return;
+        }
+        consecutiveFailures++;
+        if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= policy.getFailureThreshold()) {
+            circuitState = CircuitState.OPEN;
+            openUntilMillis = System.currentTimeMillis() + policy.getOpenDuration().toMillis();
+        }
+    }
+
+    private synchronized void depositRetryBudget() {
+        double cap = Math.max(policy.getMinRetryBudget(), policy.getMaxInFlight());
+        retryBalance = Math.min(cap, retryBalance + policy.getRetryBudgetRatio());
+    }
+
+    private synchronized boolean tryWithdrawRetry() {
+        if (retryBalance < 1.0) {
+            return false;
+        }
+        retryBalance -= 1.0;
+        return true;
+    }
+
+    // 타임아웃, 연결 실패, 5xx 응답만 일시적인 장애로 보고 재시도/서킷 집계 대상으로 삼음
+    private boolean isTransient(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof WebClientRequestException) {
+            return true;
+        }
+        return error instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is5xxServerError();
+    }
+}
@@ -0,0 +1,113 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.config.AiGatewayProperties;
+import com.experience_program.be.dto.AiResponseDto;
+import com.experience_program.be.dto.CampaignChatRequestDto;
+import com.experience_program.be.dto.CampaignChatResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * AI 서버 호출을 모아둔 게이트웨이.
+ * 엔드포인트마다 별도의 타임아웃/bulkhead/서킷 브레이커/재시도 예산을 적용해,
+ * 한 엔드포인트의 장애가 다른 API까지 번지지 않도록 한다.
+ */
+@Component
+public class AiGateway {
+
+    private final WebClient webClient;
+    private final AiEndpointGuard generateGuard;
+    private final AiEndpointGuard refineGuard;
+    private final AiEndpointGuard interactiveGuard;
+    private final AiEndpointGuard knowledgeGuard;
+
+    @Autowired
+    public AiGateway(WebClient webClient, AiGatewayProperties properties) {
+        this.webClient = webClient;
+        this.generateGuard = new AiEndpointGuard("generate", properties.endpoint("generate"));
+        this.refineGuard = new AiEndpointGuard("refine", properties.endpoint("refine"));
+        this.interactiveGuard = new AiEndpointGuard("interactive", properties.endpoint("interactive"));
+        this.knowledgeGuard = new AiEndpointGuard("knowledge", properties.endpoint("knowledge"));
+    }
+
+    public Mono<AiResponseDto> generate(Object requestBody) {
+        return generateGuard.protect(() -> webClient.post()
+                .uri("/api/generate")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(AiResponseDto.class));
+    }
+
+    public Mono<AiResponseDto> refine(UUID campaignId, Object requestBody) {
+        return refineGuard.protect(() -> webClient.post()
+                .uri("/api/campaigns/" + campaignId + "/refine")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(AiResponseDto.class));
+    }
+
+    public Mono<CampaignChatResponseDto> buildInteractive(CampaignChatRequestDto request) {
+        return interactiveGuard.protect(() -> webClient.post()
+                .uri("/api/build-campaign/interactive")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(CampaignChatResponseDto.class));
+    }
+
+    public Flux<ServerSentEvent<CampaignChatResponseDto>> streamInteractive(CampaignChatRequestDto request) {
+        return interactiveGuard.protectStream(() -> webClient.post()
+                .uri("/api/build-campaign/interactive/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<CampaignChatResponseDto>>() {}));
+    }
+
+    public Mono<Void> registerKnowledge(Object requestBody) {
+        return knowledgeGuard.protect(() -> webClient.post()
+                .uri("/api/knowledge")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Void.class));
+    }
+
+    public Mono<Object> listKnowledge(Function<UriBuilder, URI> uriFunction) {
+        return knowledgeGuard.protect(() -> webClient.get()
+                .uri(uriFunction)
+                .retrieve()
+                .bodyToMono(Object.class));
+    }
+
+    public Mono<Object> getKnowledge(String knowledgeId) {
+        return knowledgeGuard.protect(() -> webClient.get()
+                .uri("/api/knowledge/" + knowledgeId)
+                .retrieve()
+                .bodyToMono(Object.class));
+    }
+
+    public Mono<Void> updateKnowledge(String knowledgeId, Object requestBody) {
+        return knowledgeGuard.protect(() -> webClient.put()
+                .uri("/api/knowledge/" + knowledgeId)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Void.class));
+    }
+
+    public Mono<Void> deleteKnowledge(String knowledgeId) {
+        return knowledgeGuard.protect(() -> webClient.delete()
+                .uri("/api/knowledge/" + knowledgeId)
+                .retrieve()
+                .bodyToMono(Void.class));
+    }
+}
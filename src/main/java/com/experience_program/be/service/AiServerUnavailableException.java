@@ -0,0 +1,36 @@
+package com.experience_program.be.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AiServerUnavailableException extends RuntimeException {
+
+    // 서킷이 열려 요청을 보내지 않고 거절한 경우, 다시 시도해도 되는 시각 (epoch millis, 그 외에는 0)
+    private final long retryAtMillis;
+
+    public AiServerUnavailableException(String message) {
+        this(message, null, 0);
+    }
+
+    public AiServerUnavailableException(String message, Throwable cause) {
+        this(message, cause, 0);
+    }
+
+    public AiServerUnavailableException(String message, long retryAtMillis) {
+        this(message, null, retryAtMillis);
+    }
+
+    private AiServerUnavailableException(String message, Throwable cause, long retryAtMillis) {
+        super(message, cause);
+        this.retryAtMillis = retryAtMillis;
+    }
+
+    public boolean isCircuitOpen() {
+        return retryAtMillis > 0;
+    }
+
+    public long getRetryAtMillis() {
+        return retryAtMillis;
+    }
+}
@@ -0,0 +1,144 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.CampaignExportRowDto;
+import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.repository.CampaignRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 캠페인과 현재 세대 메시지 초안을 CSV 또는 NDJSON으로 내보낸다.
+ * DB 결과를 한 행씩 읽어 바로 응답 스트림에 쓰므로, 내보내는 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+public class CampaignExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson 중 선택)"));
+        }
+    }
+
+    private static final List<String> CSV_HEADER = List.of(
+            "campaign_id", "request_date", "marketer_id", "purpose", "status", "actual_ctr", "conversion_rate",
+            "performance_status", "updated_at", "result_id", "generation", "target_group_index", "target_name",
+            "message_draft_index", "message_text", "is_selected");
+
+    private final CampaignRepository campaignRepository;
+    private final ObjectWriter rowWriter;
+
+    @Autowired
+    public CampaignExportService(CampaignRepository campaignRepository, ObjectMapper objectMapper) {
+        this.campaignRepository = campaignRepository;
+        this.rowWriter = objectMapper.writerFor(CampaignExportRowDto.class);
+    }
+
+    // 결과를 모두 쓸 때까지 같은 커넥션에서 스트리밍 쿼리를 유지해야 하므로 읽기 전용 트랜잭션 안에서 실행
+    @Transactional(readOnly = true)
+    public long export(Format format, Specification<Campaign> spec, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writeCsvRecord(writer, CSV_HEADER);
+        }
+
+        long rows = 0;
+        try (Stream<CampaignExportRowDto> stream = campaignRepository.streamExportRows(spec)) {
+            Iterator<CampaignExportRowDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                CampaignExportRowDto row = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRecord(writer, toCsvFields(row));
+                } else {
+                    writer.write(rowWriter.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private List<String> toCsvFields(CampaignExportRowDto row) {
+        return Arrays.asList(
+                text(row.getCampaignId()),
+                text(row.getRequestDate()),
+                row.getMarketerId(),
+                row.getPurpose(),
+                text(row.getStatus()),
+                row.getActualCtr() != null ? row.getActualCtr().toPlainString() : null,
+                row.getConversionRate() != null ? row.getConversionRate().toPlainString() : null,
+                text(row.getPerformanceStatus()),
+                text(row.getUpdatedAt()),
+                text(row.getResultId()),
+                text(row.getGeneration()),
+                text(row.getTargetGroupIndex()),
+                row.getTargetName(),
+                text(row.getMessageDraftIndex()),
+                row.getMessageText(),
+                row.getIsSelected() != null ? row.getIsSelected().toString().toLowerCase(Locale.ROOT) : null);
+    }
+
+    private String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 들어 있는 값만 따옴표로 감싸고 안의 따옴표는 두 번 씀 (RFC 4180)
+    private void writeCsvRecord(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String field = fields.get(i);
+            if (field == null) {
+                continue;
+            }
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(field.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(field);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
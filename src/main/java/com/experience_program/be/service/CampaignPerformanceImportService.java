@@ -0,0 +1,332 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.PerformanceImportResultDto;
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.PerformanceStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 광고 플랫폼에서 내려받은 성과 CSV를 캠페인에 일괄 반영한다.
+ * 파일을 한 행씩 읽어 chunk 단위로 검증하고, chunk마다 대상 캠페인 행을 한 번에 잠근 뒤
+ * JDBC 배치 UPDATE로 반영하므로 행 수와 관계없이 메모리 사용량이 일정하다.
+ * 상태 변경 규칙과 집계 갱신은 단건 성과 등록(updatePerformance)과 같다.
+ */
+@Service
+public class CampaignPerformanceImportService {
+
+    private static final String COLUMN_CAMPAIGN_ID = "campaign_id";
+    private static final String COLUMN_ACTUAL_CTR = "actual_ctr";
+    private static final String COLUMN_CONVERSION_RATE = "conversion_rate";
+    private static final String COLUMN_PERFORMANCE_STATUS = "performance_status";
+    private static final String COLUMN_PERFORMANCE_NOTES = "performance_notes";
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            COLUMN_CAMPAIGN_ID, COLUMN_ACTUAL_CTR, COLUMN_CONVERSION_RATE, COLUMN_PERFORMANCE_STATUS);
+
+    // actual_ctr, conversion_rate 컬럼은 DECIMAL(5, 2)
+    private static final BigDecimal MAX_RATE = new BigDecimal("999.99");
+
+    private static final String LOCK_SQL =
+            "SELECT campaign_id, status, request_date FROM campaigns WHERE campaign_id IN (:campaignIds) FOR UPDATE";
+
+    // 잠근 뒤 읽은 상태 그대로일 때만 변경 (단건 경로의 compare-and-set과 같은 조건)
+    private static final String UPDATE_SQL =
+            "UPDATE campaigns SET actual_ctr = :actualCtr, conversion_rate = :conversionRate, " +
+            "performance_status = :performanceStatus, performance_notes = :performanceNotes, " +
+            "is_performance_registered = TRUE, status = :toStatus, updated_at = :now " +
+            "WHERE campaign_id = :campaignId AND status = :expectedStatus";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CampaignStatusRollupService campaignStatusRollupService;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public CampaignPerformanceImportService(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                            CampaignStatusRollupService campaignStatusRollupService,
+                                            @Value("${campaigns.performance-import.chunk-size}") int chunkSize,
+                                            @Value("${campaigns.performance-import.max-reported-errors}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.campaignStatusRollupService = campaignStatusRollupService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    /**
+     * chunk마다 별도 트랜잭션으로 커밋하므로, 중간에 실패하면 그 전 chunk까지는 반영된 상태로 남는다.
+     * 형식이 잘못된 행은 건너뛰고 결과 보고서에 행 번호와 사유를 남긴다.
+     * chunk 반영 중 DB 오류 등으로 실패하면 그 chunk의 행만 실패로 기록하고 다음 chunk를 이어서 처리한다.
+     */
+    public PerformanceImportResultDto importCsv(Reader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        Map<String, Integer> columns = readHeader(csv);
+        Report report = new Report(maxReportedErrors);
+
+        List<PerformanceRow> chunk = new ArrayList<>(chunkSize);
+        List<String> record;
+        while (true) {
+            try {
+                record = csv.next();
+            } catch (IllegalArgumentException e) {
+                // 따옴표가 닫히지 않은 경우 등 이후 행의 경계를 알 수 없으므로 나머지는 처리하지 않음
+                report.fail(csv.getRecordNumber(), null, e.getMessage() + " 이후 행은 처리하지 않았습니다.");
+                break;
+            }
+            if (record == null) {
+                break;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            report.totalRows++;
+            PerformanceRow row = parseRow(csv.getRecordNumber(), record, columns, report);
+            if (row == null) {
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                applyChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, report);
+        }
+        return report.toDto();
+    }
+
+    private Map<String, Integer> readHeader(CsvRecordReader csv) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 파일이 비어 있습니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV 헤더에 " + required + " 컬럼이 없습니다.");
+            }
+        }
+        return columns;
+    }
+
+    private PerformanceRow parseRow(long rowNumber, List<String> record, Map<String, Integer> columns, Report report) {
+        String campaignIdValue = field(record, columns, COLUMN_CAMPAIGN_ID);
+        UUID campaignId;
+        try {
+            campaignId = UUID.fromString(campaignIdValue);
+        } catch (IllegalArgumentException e) {
+            report.fail(rowNumber, campaignIdValue, "campaign_id 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        PerformanceStatus performanceStatus;
+        try {
+            performanceStatus = PerformanceStatus.valueOf(field(record, columns, COLUMN_PERFORMANCE_STATUS).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            report.fail(rowNumber, campaignIdValue, "performance_status는 SUCCESS, FAILURE, UNDECIDED 중 하나여야 합니다.");
+            return null;
+        }
+
+        BigDecimal actualCtr;
+        BigDecimal conversionRate;
+        try {
+            actualCtr = parseRate(field(record, columns, COLUMN_ACTUAL_CTR));
+            conversionRate = parseRate(field(record, columns, COLUMN_CONVERSION_RATE));
+        } catch (IllegalArgumentException e) {
+            report.fail(rowNumber, campaignIdValue, e.getMessage());
+            return null;
+        }
+
+        String notes = columns.containsKey(COLUMN_PERFORMANCE_NOTES) ? field(record, columns, COLUMN_PERFORMANCE_NOTES) : "";
+        return new PerformanceRow(rowNumber, campaignId, actualCtr, conversionRate, performanceStatus,
+                StringUtils.hasText(notes) ? notes : null);
+    }
+
+    // 비어 있으면 null(값 없음), 숫자가 아니거나 컬럼 범위를 넘으면 IllegalArgumentException
+    private BigDecimal parseRate(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        BigDecimal rate;
+        try {
+            rate = new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 값이 있습니다: " + value);
+        }
+        if (rate.scale() > 2 || rate.abs().compareTo(MAX_RATE) > 0) {
+            throw new IllegalArgumentException("성과 수치는 소수점 둘째 자리까지, 최대 999.99까지 입력할 수 있습니다: " + value);
+        }
+        return rate;
+    }
+
+    private String field(List<String> record, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        return index < record.size() ? record.get(index).trim() : "";
+    }
+
+    private void applyChunk(List<PerformanceRow> chunk, Report report) {
+        // 같은 캠페인이 chunk 안에 여러 번 나오면 마지막 행만 반영
+        Map<UUID, PerformanceRow> latestRows = new LinkedHashMap<>();
+        for (PerformanceRow row : chunk) {
+            PerformanceRow replaced = latestRows.put(row.campaignId(), row);
+            if (replaced != null) {
+                report.fail(replaced.rowNumber(), replaced.campaignId().toString(),
+                        row.rowNumber() + "행에 같은 캠페인이 다시 나와 반영하지 않았습니다.");
+            }
+        }
+
+        List<RowFailure> failures = new ArrayList<>();
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                failures.clear();
+                Map<UUID, CurrentState> current = lockCampaigns(latestRows.keySet());
+                LocalDateTime now = LocalDateTime.now();
+
+                List<PerformanceRow> applicable = new ArrayList<>();
+                List<SqlParameterSource> batchParams = new ArrayList<>();
+                List<CampaignStatusRollupService.StatusTransition> transitions = new ArrayList<>();
+                for (PerformanceRow row : latestRows.values()) {
+                    CurrentState state = current.get(row.campaignId());
+                    if (state == null) {
+                        failures.add(new RowFailure(row, "ID " + row.campaignId() + "에 해당하는 캠페인을 찾을 수 없습니다."));
+                        continue;
+                    }
+                    CampaignStatus toStatus = CampaignStatus.afterPerformance(row.performanceStatus());
+                    if (!toStatus.canTransitionFrom(state.status())) {
+                        failures.add(new RowFailure(row, "현재 상태(" + state.status() + ")에서는 성과를 등록할 수 없습니다."));
+                        continue;
+                    }
+                    applicable.add(row);
+                    batchParams.add(updateParams(row, state.status(), toStatus, now));
+                    transitions.add(new CampaignStatusRollupService.StatusTransition(state.requestDate(), state.status(), toStatus));
+                }
+                if (applicable.isEmpty()) {
+                    return 0;
+                }
+
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batchParams.toArray(new SqlParameterSource[0]));
+                for (int i = 0; i < counts.length; i++) {
+                    // 행을 잠근 상태라 0건은 나올 수 없지만, 나오면 전체를 되돌려 집계가 어긋나지 않게 함
+                    if (counts[i] == 0) {
+                        throw new IllegalStateException(applicable.get(i).rowNumber() + "행의 캠페인 상태가 반영 도중 변경되었습니다.");
+                    }
+                }
+                campaignStatusRollupService.recordTransitions(transitions);
+                return applicable.size();
+            });
+        } catch (RuntimeException e) {
+            // chunk 트랜잭션은 통째로 되돌려졌으므로 chunk의 모든 행을 실패로 기록하고 다음 chunk를 계속 처리
+            System.err.println("Performance import chunk failed: " + e.getMessage());
+            for (PerformanceRow row : latestRows.values()) {
+                report.fail(row.rowNumber(), row.campaignId().toString(), "반영 중 오류가 발생해 이 행을 반영하지 않았습니다: " + e.getMessage());
+            }
+            return;
+        }
+
+        report.updatedRows += updated != null ? updated : 0;
+        for (RowFailure failure : failures) {
+            report.fail(failure.row().rowNumber(), failure.row().campaignId().toString(), failure.message());
+        }
+    }
+
+    private Map<UUID, CurrentState> lockCampaigns(Iterable<UUID> campaignIds) {
+        List<byte[]> ids = new ArrayList<>();
+        campaignIds.forEach(campaignId -> ids.add(toBytes(campaignId)));
+
+        Map<UUID, CurrentState> current = new HashMap<>();
+        jdbcTemplate.query(LOCK_SQL, Map.of("campaignIds", ids), resultSet -> {
+            String status = resultSet.getString("status");
+            Timestamp requestDate = resultSet.getTimestamp("request_date");
+            current.put(fromBytes(resultSet.getBytes("campaign_id")), new CurrentState(
+                    status != null ? CampaignStatus.from(status) : null,
+                    requestDate != null ? requestDate.toLocalDateTime() : null));
+        });
+        return current;
+    }
+
+    private SqlParameterSource updateParams(PerformanceRow row, CampaignStatus expectedStatus, CampaignStatus toStatus, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("actualCtr", row.actualCtr())
+                .addValue("conversionRate", row.conversionRate())
+                .addValue("performanceStatus", row.performanceStatus().name())
+                .addValue("performanceNotes", row.performanceNotes())
+                .addValue("toStatus", toStatus.name())
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("campaignId", toBytes(row.campaignId()))
+                .addValue("expectedStatus", expectedStatus.name());
+    }
+
+    // campaigns.campaign_id(BINARY(16))는 Hibernate 기본 매핑과 같이 UUID를 상위/하위 64비트 순서로 저장
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private record PerformanceRow(long rowNumber, UUID campaignId, BigDecimal actualCtr, BigDecimal conversionRate,
+                                  PerformanceStatus performanceStatus, String performanceNotes) {
+    }
+
+    private record CurrentState(CampaignStatus status, LocalDateTime requestDate) {
+    }
+
+    private record RowFailure(PerformanceRow row, String message) {
+    }
+
+    // 오류는 처음 maxReportedErrors건만 보관하고 나머지는 개수만 셈
+    private static class Report {
+        private final int maxReportedErrors;
+        private final List<PerformanceImportResultDto.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long updatedRows;
+        private long failedRows;
+
+        Report(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long row, String campaignId, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new PerformanceImportResultDto.RowError(row, campaignId, message));
+            }
+        }
+
+        PerformanceImportResultDto toDto() {
+            return new PerformanceImportResultDto(totalRows, updatedRows, failedRows, errors, failedRows > errors.size());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.experience_program.be.controller.CampaignSpecification;
 import com.experience_program.be.dto.*;
 import com.experience_program.be.entity.*;
 import com.experience_program.be.repository.CampaignRepository;
+import com.experience_program.be.repository.CampaignStatusCount;
+import com.experience_program.be.repository.CampaignStatusSnapshot;
 import com.experience_program.be.repository.ChatMessageRepository;
 import com.experience_program.be.repository.ChatSessionRepository;
 import com.experience_program.be.repository.MessageResultRepository;
@@ -11,23 +13,35 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -38,51 +52,160 @@ public class CampaignService {
     private final MessageResultRepository messageResultRepository;
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final WebClient webClient;
+    private final AiGateway aiGateway;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final GenerationJobService generationJobService;
+    private final CampaignStatusRollupService campaignStatusRollupService;
+    private final KnowledgeCache knowledgeCache;
+    private final KnowledgeMirrorService knowledgeMirrorService;
 
-    private static final int MAX_CHAT_SESSIONS = 50;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int CHAT_PREVIEW_LENGTH = 200;
+
+    private final int maxBatchSize;
+
+    // AI 서버 스트리밍 응답의 이벤트 이름
+    public static final String CHUNK_EVENT = "chunk";
+    public static final String FINAL_EVENT = "final";
+    public static final String ERROR_EVENT = "error";
 
     @Autowired
     public CampaignService(CampaignRepository campaignRepository, MessageResultRepository messageResultRepository,
                            ChatSessionRepository chatSessionRepository, ChatMessageRepository chatMessageRepository,
-                           WebClient webClient, ObjectMapper objectMapper) {
+                           AiGateway aiGateway, ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                           GenerationJobService generationJobService, CampaignStatusRollupService campaignStatusRollupService,
+                           KnowledgeCache knowledgeCache, KnowledgeMirrorService knowledgeMirrorService,
+                           @Value("${campaigns.batch.max-size}") int maxBatchSize) {
         this.campaignRepository = campaignRepository;
         this.messageResultRepository = messageResultRepository;
         this.chatSessionRepository = chatSessionRepository;
         this.chatMessageRepository = chatMessageRepository;
-        this.webClient = webClient;
+        this.aiGateway = aiGateway;
         this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.generationJobService = generationJobService;
+        this.campaignStatusRollupService = campaignStatusRollupService;
+        this.knowledgeCache = knowledgeCache;
+        this.knowledgeMirrorService = knowledgeMirrorService;
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, CampaignBatchRequestDto.MAX_CAMPAIGNS));
     }
 
-    @Transactional
     public CampaignChatResponseDto handleInteractiveBuild(CampaignChatRequestDto request) {
-        // 1. AI 서버 호출을 동기 방식으로 변경
-        CampaignChatResponseDto response = webClient.post()
-                .uri("/api/build-campaign/interactive")
-                .body(Mono.just(request), CampaignChatRequestDto.class)
-                .retrieve()
-                .bodyToMono(CampaignChatResponseDto.class)
-                .block(); // 응답이 올 때까지 대기
+        // 1. AI 서버 호출을 동기 방식으로 변경 (트랜잭션 밖에서 대기하므로 DB 커넥션을 점유하지 않음)
+        CampaignChatResponseDto response = requestInteractiveBuild(request).block(); // 응답이 올 때까지 대기
 
         if (response != null) {
-            // 2. DB 저장 로직을 동기 코드 블록 안에서 실행
-            saveChatHistory(request, response);
-            enforceChatSessionLimit();
+            // 2. DB 저장 로직만 짧은 트랜잭션으로 실행
+            persistChatTurn(request, response);
         }
 
         return response;
     }
 
+    /**
+     * 대화형 캠페인 빌드의 비동기 버전.
+     * AI 서버 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 모두 점유하지 않으며,
+     * 응답이 도착한 뒤 대화 이력 저장 구간에서만 트랜잭션을 연다.
+     */
+    public Mono<CampaignChatResponseDto> handleInteractiveBuildAsync(CampaignChatRequestDto request) {
+        return requestInteractiveBuild(request)
+                .flatMap(response -> Mono.fromCallable(() -> {
+                            persistChatTurn(request, response);
+                            return response;
+                        })
+                        // JDBC 호출은 블로킹이므로 Netty 이벤트 루프가 아닌 별도 스케줄러에서 실행
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * 대화형 캠페인 빌드의 스트리밍 버전.
+     * AI 서버가 보내는 ai_response 조각을 chunk 이벤트로 그대로 전달하고,
+     * 스트림이 끝나면 대화 이력을 저장한 뒤 current_campaign_data와 is_finished를 담은 final 이벤트를 보낸다.
+     */
+    public Flux<ServerSentEvent<Object>> streamInteractiveBuild(CampaignChatRequestDto request) {
+        return Flux.defer(() -> {
+            StringBuilder aggregatedResponse = new StringBuilder();
+            AtomicBoolean finalReceived = new AtomicBoolean(false);
+            return aiGateway.streamInteractive(request)
+                    .filter(event -> event.data() != null)
+                    .concatMap(event -> {
+                        CampaignChatResponseDto data = event.data();
+                        if (!FINAL_EVENT.equals(event.event())) {
+                            String chunk = data.getAiResponse() != null ? data.getAiResponse() : "";
+                            aggregatedResponse.append(chunk);
+                            return Mono.just(ServerSentEvent.<Object>builder(new CampaignChatChunkDto(chunk))
+                                    .event(CHUNK_EVENT)
+                                    .build());
+                        }
+
+                        finalReceived.set(true);
+                        // 최종 이벤트에 전체 응답이 없으면 지금까지 받은 조각을 합쳐서 저장
+                        if (!StringUtils.hasText(data.getAiResponse())) {
+                            data.setAiResponse(aggregatedResponse.toString());
+                        }
+                        if (!StringUtils.hasText(data.getConversationId())) {
+                            data.setConversationId(request.getConversationId());
+                        }
+                        return Mono.fromCallable(() -> {
+                                    persistChatTurn(request, data);
+                                    return ServerSentEvent.<Object>builder(data)
+                                            .event(FINAL_EVENT)
+                                            .build();
+                                })
+                                .subscribeOn(Schedulers.boundedElastic());
+                    })
+                    .concatWith(Mono.defer(() -> finalReceived.get()
+                            ? Mono.empty()
+                            : completeWithoutFinalEvent(request, aggregatedResponse.toString())));
+        });
+    }
+
+    // AI 서버 스트림이 final 이벤트 없이 끝난 경우: 받은 조각이 있으면 그대로 저장해 final 이벤트로 마무리하고, 없으면 error 이벤트를 보냄
+    private Mono<ServerSentEvent<Object>> completeWithoutFinalEvent(CampaignChatRequestDto request, String aggregatedResponse) {
+        if (!StringUtils.hasText(request.getConversationId()) || !StringUtils.hasText(aggregatedResponse)) {
+            System.err.println("Interactive stream for conversation " + request.getConversationId() + " ended without a final event.");
+            return Mono.just(ServerSentEvent.<Object>builder(new ErrorResponseDto(HttpStatus.BAD_GATEWAY.value(), "AI 서버 응답이 완료되지 않았습니다. 다시 시도해주세요."))
+                    .event(ERROR_EVENT)
+                    .build());
+        }
+        CampaignChatResponseDto data = new CampaignChatResponseDto();
+        data.setConversationId(request.getConversationId());
+        data.setAiResponse(aggregatedResponse);
+        data.setFinished(false);
+        return Mono.fromCallable(() -> {
+                    persistChatTurn(request, data);
+                    return ServerSentEvent.<Object>builder(data)
+                            .event(FINAL_EVENT)
+                            .build();
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<CampaignChatResponseDto> requestInteractiveBuild(CampaignChatRequestDto request) {
+        return aiGateway.buildInteractive(request);
+    }
+
+    private void persistChatTurn(CampaignChatRequestDto request, CampaignChatResponseDto response) {
+        transactionTemplate.executeWithoutResult(status -> {
+            saveChatHistory(request, response);
+        });
+    }
+
+    // 기존 대화 내용을 읽지 않고 세션 행 upsert 1회 + 메시지 INSERT 2회로 한 턴을 저장
     private void saveChatHistory(CampaignChatRequestDto request, CampaignChatResponseDto response) {
         String conversationId = response.getConversationId();
-        ChatSession session = chatSessionRepository.findById(conversationId)
-                .orElseGet(() -> ChatSession.builder().conversationId(conversationId).build());
 
         // AI가 생성한 캠페인 제목으로 세션 제목 업데이트
+        String title = null;
         if (response.getCurrentCampaignData() != null && StringUtils.hasText(response.getCurrentCampaignData().getCampaignTitle())) {
-            session.setTitle(response.getCurrentCampaignData().getCampaignTitle());
+            title = response.getCurrentCampaignData().getCampaignTitle();
         }
+        String marketerId = StringUtils.hasText(request.getMarketerId()) ? request.getMarketerId() : null;
+        chatSessionRepository.upsertForAppend(conversationId, title, marketerId, 2,
+                toPreview(response.getAiResponse()), LocalDateTime.now());
+
+        ChatSession session = chatSessionRepository.getReferenceById(conversationId);
 
         // 사용자 메시지 저장
         ChatMessage userMessage = ChatMessage.builder()
@@ -90,7 +213,6 @@ public class CampaignService {
                 .role("user")
                 .content(request.getUserMessage())
                 .build();
-        session.getMessages().add(userMessage);
 
         // AI 응답 메시지 저장
         ChatMessage aiMessage = ChatMessage.builder()
@@ -98,61 +220,139 @@ public class CampaignService {
                 .role("assistant")
                 .content(response.getAiResponse())
                 .build();
-        session.getMessages().add(aiMessage);
 
-        chatSessionRepository.save(session);
+        chatMessageRepository.saveAll(List.of(userMessage, aiMessage));
     }
 
-    private void enforceChatSessionLimit() {
-        long totalSessions = chatSessionRepository.count();
-        if (totalSessions > MAX_CHAT_SESSIONS) {
-            chatSessionRepository.findFirstByOrderByLastUpdatedAtAsc()
-                    .ifPresent(chatSessionRepository::delete);
-        }
+    // ... (기존의 다른 메서드들은 그대로 유지)
+    @Transactional
+    public CampaignDetailDto createCampaign(CampaignRequestDto campaignRequestDto) {
+        Campaign savedCampaign = campaignRepository.save(newCampaign(campaignRequestDto, null));
+        campaignStatusRollupService.recordCreated(savedCampaign.getRequestDate(), savedCampaign.getStatus());
+
+        // 생성 작업을 같은 트랜잭션에 기록하고, 실제 AI 호출은 GenerationJobWorker가 처리
+        generationJobService.enqueue(savedCampaign.getCampaignId(), GenerationJobType.GENERATE, campaignRequestDto);
+
+        return CampaignDetailDto.from(savedCampaign);
     }
 
-    // ... (기존의 다른 메서드들은 그대로 유지)
+    /**
+     * 여러 캠페인을 한 트랜잭션에서 일괄 생성한다.
+     * 식별자가 애플리케이션에서 만들어지는 UUID라 캠페인과 생성 작업 INSERT가 각각 JDBC 배치로 묶여 전송되고,
+     * AI 생성은 작업 큐를 통해 ai.jobs.concurrency개씩 순서대로 처리된다.
+     */
     @Transactional
-    public Campaign createCampaign(CampaignRequestDto campaignRequestDto) {
+    public CampaignBatchResponseDto createCampaigns(List<CampaignRequestDto> campaignRequests) {
+        if (campaignRequests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 캠페인은 최대 " + maxBatchSize + "건입니다.");
+        }
+        UUID batchId = UUID.randomUUID();
+        List<Campaign> campaigns = campaignRequests.stream()
+                .map(campaignRequestDto -> newCampaign(campaignRequestDto, batchId))
+                .collect(Collectors.toList());
+        List<Campaign> savedCampaigns = campaignRepository.saveAll(campaigns);
+
+        // 집계는 캠페인마다가 아니라 요청 월별로 한 번씩만 갱신
+        savedCampaigns.stream()
+                .collect(Collectors.groupingBy(campaign -> YearMonth.from(campaign.getRequestDate()), Collectors.counting()))
+                .forEach((month, count) -> campaignStatusRollupService.recordCreated(
+                        month.atDay(1).atStartOfDay(), CampaignStatus.PROCESSING, count.intValue()));
+
+        List<UUID> campaignIds = IntStream.range(0, savedCampaigns.size())
+                .mapToObj(i -> {
+                    UUID campaignId = savedCampaigns.get(i).getCampaignId();
+                    generationJobService.enqueue(campaignId, GenerationJobType.GENERATE, campaignRequests.get(i));
+                    return campaignId;
+                })
+                .collect(Collectors.toList());
+
+        return new CampaignBatchResponseDto(batchId, campaignIds);
+    }
+
+    @Transactional(readOnly = true)
+    public CampaignBatchStatusDto getBatchStatus(UUID batchId) {
+        List<CampaignStatusCount> counts = campaignRepository.countByStatusForBatch(batchId);
+        if (counts.isEmpty()) {
+            throw new ResourceNotFoundException("ID " + batchId + "에 해당하는 일괄 생성 요청을 찾을 수 없습니다.");
+        }
+
+        Map<String, Long> statusCounts = new HashMap<>();
+        long total = 0;
+        long generating = 0;
+        long failed = 0;
+        for (CampaignStatusCount count : counts) {
+            CampaignStatus status = count.getStatus();
+            statusCounts.put(status != null ? status.name() : "UNKNOWN", count.getCount());
+            total += count.getCount();
+            // 아직 AI 생성 결과를 기다리는 상태와 생성에 실패한 상태만 따로 집계하고, 나머지는 생성 완료로 봄
+            if (status == CampaignStatus.PROCESSING || status == CampaignStatus.REFINING) {
+                generating += count.getCount();
+            } else if (status == CampaignStatus.FAILED) {
+                failed += count.getCount();
+            }
+        }
+        long generated = total - generating - failed;
+        return new CampaignBatchStatusDto(batchId, total, generating, generated, failed, generating == 0, statusCounts);
+    }
+
+    private Campaign newCampaign(CampaignRequestDto campaignRequestDto, UUID batchId) {
         String sourceUrlsJson = convertObjectToJson(campaignRequestDto.getSourceUrls());
         String customColumnsJson = convertObjectToJson(campaignRequestDto.getCustomColumns());
 
-        Campaign campaign = Campaign.builder()
+        return Campaign.builder()
                 .marketerId(campaignRequestDto.getMarketerId())
                 .purpose(campaignRequestDto.getPurpose())
                 .coreBenefitText(campaignRequestDto.getCoreBenefitText())
                 .sourceUrl(sourceUrlsJson)
                 .customColumns(customColumnsJson)
-                .status("PROCESSING")
+                .status(CampaignStatus.PROCESSING)
                 .requestDate(LocalDateTime.now())
                 .performanceStatus(PerformanceStatus.UNDECIDED)
                 .isPerformanceRegistered(false)
                 .isRagRegistered(false)
+                .batchId(batchId)
                 .build();
-        Campaign savedCampaign = campaignRepository.save(campaign);
+    }
 
-        webClient.post()
-                .uri("/api/generate")
-                .body(Mono.just(campaignRequestDto), CampaignRequestDto.class)
-                .retrieve()
-                .bodyToMono(AiResponseDto.class)
-                .doOnError(error -> updateCampaignStatus(savedCampaign.getCampaignId(), "FAILED"))
-                .subscribe(aiResponse -> {
-                    saveAiResponse(savedCampaign, aiResponse);
-                    updateCampaignStatus(savedCampaign.getCampaignId(), "COMPLETED");
-                });
+    @Transactional
+    public void applyGeneratedResponse(UUID campaignId, AiResponseDto aiResponse) {
+        if (!transitionStatus(campaignId, CampaignStatus.COMPLETED)) {
+            System.err.println("캠페인 " + campaignId + "이(가) 생성 중 상태가 아니므로 생성 결과를 반영하지 않습니다.");
+            return;
+        }
+        Campaign campaign = getCampaignById(campaignId);
+        saveAiResponse(campaign, campaign.getCurrentGeneration(), aiResponse);
+    }
 
-        return savedCampaign;
+    @Transactional
+    public void applyRefinedResponse(UUID campaignId, AiResponseDto aiResponse) {
+        // 기존 초안은 그대로 두고 다음 세대로 저장한 뒤, 같은 트랜잭션에서 현재 세대 포인터를 옮김
+        Campaign campaign = campaignRepository.findByIdForUpdate(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID " + campaignId + "에 해당하는 캠페인을 찾을 수 없습니다."));
+        if (!transitionStatus(campaignId, CampaignStatus.COMPLETED)) {
+            System.err.println("캠페인 " + campaignId + "이(가) 재생성 중 상태가 아니므로 재생성 결과를 반영하지 않습니다.");
+            return;
+        }
+        int nextGeneration = campaign.getCurrentGeneration() + 1;
+        saveAiResponse(campaign, nextGeneration, aiResponse);
+        campaign.setCurrentGeneration(nextGeneration);
     }
 
+    // 이미 완료된 캠페인에 늦게 도착한 실패는 무시됨
     @Transactional
-    public void saveAiResponse(Campaign campaign, AiResponseDto aiResponse) {
+    public void markGenerationFailed(UUID campaignId) {
+        transitionStatus(campaignId, CampaignStatus.FAILED);
+    }
+
+    @Transactional
+    public void saveAiResponse(Campaign campaign, int generation, AiResponseDto aiResponse) {
         List<MessageResult> messageResults = aiResponse.getTarget_groups().stream()
                 .flatMap(targetGroupDto -> targetGroupDto.getMessage_drafts().stream()
                         .map(messageDraftDto -> {
                             String validationReportJson = convertObjectToJson(messageDraftDto.getValidationReport());
                             return MessageResult.builder()
                                     .campaign(campaign)
+                                    .generation(generation)
                                     .targetGroupIndex(targetGroupDto.getTarget_group_index())
                                     .targetName(targetGroupDto.getTarget_name())
                                     .targetFeatures(targetGroupDto.getTarget_features())
@@ -164,12 +364,115 @@ public class CampaignService {
                                     .build();
                         }))
                 .collect(Collectors.toList());
+        // UUID 식별자라 INSERT가 hibernate.jdbc.batch_size 단위로 묶여 전송됨
         messageResultRepository.saveAll(messageResults);
     }
 
-    public Page<Campaign> getAllCampaigns(LocalDate requestDate, String status, String purpose, String marketerId, Pageable pageable) {
-        Specification<Campaign> spec = CampaignSpecification.withDynamicQuery(requestDate, status, purpose, marketerId);
-        return campaignRepository.findAll(spec, pageable);
+    public Page<CampaignListItemDto> getAllCampaigns(LocalDate requestDate, LocalDate requestDateFrom, LocalDate requestDateTo,
+                                                     String status, String purpose, String marketerId, String q, Pageable pageable) {
+        if (StringUtils.hasText(q)) {
+            return searchCampaigns(q.trim(), requestDate, requestDateFrom, requestDateTo, status, purpose, marketerId, pageable);
+        }
+        Specification<Campaign> spec = CampaignSpecification.withDynamicQuery(requestDate, requestDateFrom, requestDateTo, status, purpose, marketerId);
+        return campaignRepository.findListItems(spec, pageable);
+    }
+
+    /**
+     * 커서(keyset) 기반 캠페인 목록 조회.
+     * (request_date, campaign_id) 내림차순으로 마지막 항목 다음부터 읽으므로 COUNT 쿼리와 OFFSET이 없다.
+     */
+    public CursorPageDto<CampaignListItemDto> getCampaignsByCursor(LocalDate requestDate, LocalDate requestDateFrom, LocalDate requestDateTo,
+                                                                   String status, String purpose, String marketerId, String after, int size) {
+        Specification<Campaign> spec = CampaignSpecification.withDynamicQuery(requestDate, requestDateFrom, requestDateTo, status, purpose, marketerId);
+        LocalDateTime afterRequestDate = null;
+        UUID afterCampaignId = null;
+        if (StringUtils.hasText(after)) {
+            String[] keys = CursorCodec.decode(after, 2);
+            try {
+                afterRequestDate = LocalDateTime.parse(keys[0]);
+                afterCampaignId = UUID.fromString(keys[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<CampaignListItemDto> rows = campaignRepository.findListItemsAfter(spec, afterRequestDate, afterCampaignId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<CampaignListItemDto> content = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CampaignListItemDto last = content.get(content.size() - 1);
+            nextCursor = CursorCodec.encode(last.getRequestDate(), last.getCampaignId());
+        }
+        return new CursorPageDto<>(content, nextCursor, hasNext);
+    }
+
+    private Page<CampaignListItemDto> searchCampaigns(String q, LocalDate requestDate, LocalDate requestDateFrom, LocalDate requestDateTo,
+                                                      String status, String purpose, String marketerId, Pageable pageable) {
+        // requestDate/requestDateFrom/requestDateTo를 하나의 [시작, 끝) 범위로 합침
+        LocalDateTime fromDate = latest(requestDate, requestDateFrom);
+        LocalDateTime toDate = earliest(requestDate, requestDateTo);
+
+        String statusFilter = StringUtils.hasText(status) ? CampaignStatus.from(status).name() : null;
+
+        // 검색 결과는 관련도 순으로 고정 정렬하므로 페이지 정보만 전달
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<String> ids = campaignRepository.searchIdsByText(q, statusFilter, emptyToNull(purpose), emptyToNull(marketerId),
+                fromDate, toDate, page);
+
+        // ID 목록으로 요약 정보를 조회한 뒤 관련도 순서를 복원
+        // 두 쿼리 사이에 삭제된 캠페인은 목록에서 제외
+        List<UUID> campaignIds = ids.getContent().stream().map(UUID::fromString).toList();
+        Map<UUID, CampaignListItemDto> itemsById = campaignRepository.findListItemsByIds(campaignIds).stream()
+                .collect(Collectors.toMap(CampaignListItemDto::getCampaignId, item -> item));
+        List<CampaignListItemDto> content = campaignIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, page, ids.getTotalElements());
+    }
+
+    private LocalDateTime latest(LocalDate requestDate, LocalDate requestDateFrom) {
+        LocalDate from = requestDate;
+        if (requestDateFrom != null && (from == null || requestDateFrom.isAfter(from))) {
+            from = requestDateFrom;
+        }
+        return from != null ? from.atStartOfDay() : null;
+    }
+
+    private LocalDateTime earliest(LocalDate requestDate, LocalDate requestDateTo) {
+        LocalDate to = requestDate;
+        if (requestDateTo != null && (to == null || requestDateTo.isBefore(to))) {
+            to = requestDateTo;
+        }
+        return to != null ? to.plusDays(1).atStartOfDay() : null;
+    }
+
+    private String emptyToNull(String value) {
+        return StringUtils.hasText(value) ? value : null;
+    }
+
+    // 보관 중인 이전 세대 초안은 읽지 않도록 현재 세대 초안만 (campaign_id, generation) 인덱스로 조회
+    @Transactional(readOnly = true)
+    public CampaignDetailDto getCampaignDetail(UUID campaignId) {
+        Campaign campaign = getCampaignById(campaignId);
+        List<MessageResult> currentResults = messageResultRepository.findByCampaign_CampaignIdAndGeneration(campaignId, campaign.getCurrentGeneration());
+        return CampaignDetailDto.from(campaign, currentResults);
+    }
+
+    /**
+     * 특정 세대의 메시지 초안 조회. generation이 없으면 현재 세대를 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MessageResultDto> getMessageResults(UUID campaignId, Integer generation) {
+        Campaign campaign = getCampaignById(campaignId);
+        int targetGeneration = generation != null ? generation : campaign.getCurrentGeneration();
+        return messageResultRepository.findByCampaign_CampaignIdAndGeneration(campaignId, targetGeneration).stream()
+                .map(MessageResultDto::from)
+                .toList();
     }
 
     public Campaign getCampaignById(UUID campaignId) {
@@ -179,27 +482,29 @@ public class CampaignService {
 
     @Transactional
     public void selectMessage(UUID campaignId, List<UUID> resultIds) {
-        Campaign campaign = getCampaignById(campaignId);
-        List<MessageResult> allResults = messageResultRepository.findByCampaign_CampaignId(campaignId);
-        allResults.forEach(result -> result.setSelected(false));
+        // 캠페인 행을 잠가 같은 캠페인에 대한 선택 요청이 섞이지 않도록 순서대로 처리
+        Campaign campaign = campaignRepository.findByIdForUpdate(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID " + campaignId + "에 해당하는 캠페인을 찾을 수 없습니다."));
 
-        List<MessageResult> selectedResults = messageResultRepository.findAllById(resultIds);
-        for (MessageResult result : selectedResults) {
-            if (!result.getCampaign().getCampaignId().equals(campaignId)) {
-                throw new IllegalArgumentException("선택된 메시지(ID: " + result.getResultId() + ")가 현재 캠페인에 속해있지 않습니다.");
+        Set<UUID> selectedIds = resultIds == null ? Set.of() : new HashSet<>(resultIds);
+        if (selectedIds.isEmpty()) {
+            messageResultRepository.clearSelection(campaignId);
+        } else {
+            // 선택 대상 중 이 캠페인의 현재 세대에 속한 행만 갱신되므로, 갱신된 행 수가 다르면 다른 캠페인(또는 이전 세대)의 메시지가 섞인 것 (예외 시 롤백)
+            int matched = messageResultRepository.markSelected(campaignId, campaign.getCurrentGeneration(), selectedIds);
+            if (matched != selectedIds.size()) {
+                throw new IllegalArgumentException("선택된 메시지 중 현재 캠페인에 속해있지 않은 메시지가 있습니다.");
             }
-            result.setSelected(true);
+            messageResultRepository.clearSelectionExcept(campaignId, selectedIds);
         }
-        
-        messageResultRepository.saveAll(allResults);
-        messageResultRepository.saveAll(selectedResults);
-        updateCampaignStatus(campaignId, "MESSAGE_SELECTED");
+        requireTransition(campaignId, CampaignStatus.MESSAGE_SELECTED, "현재 상태에서는 메시지를 선택할 수 없습니다.");
     }
 
     @Transactional
     public void refineMessage(UUID campaignId, String feedback) {
         Campaign campaign = getCampaignById(campaignId);
-        updateCampaignStatus(campaignId, "REFINING");
+        // 이미 재생성 중이거나 생성이 끝나지 않은 캠페인은 재생성 요청을 받지 않음
+        requireTransition(campaignId, CampaignStatus.REFINING, "현재 상태에서는 메시지를 재생성할 수 없습니다.");
 
         CampaignRequestDto campaignContext = new CampaignRequestDto();
         campaignContext.setMarketerId(campaign.getMarketerId());
@@ -208,7 +513,7 @@ public class CampaignService {
         campaignContext.setSourceUrls(convertJsonToList(campaign.getSourceUrl()));
         campaignContext.setCustomColumns(convertJsonToMap(campaign.getCustomColumns()));
 
-        List<MessageResult> previousResults = messageResultRepository.findByCampaign_CampaignId(campaignId);
+        List<MessageResult> previousResults = messageResultRepository.findByCampaign_CampaignIdAndGeneration(campaignId, campaign.getCurrentGeneration());
         List<Map<String, Object>> targetPersonas = previousResults.stream()
                 .map(result -> {
                     Map<String, Object> persona = new HashMap<>();
@@ -225,51 +530,31 @@ public class CampaignService {
         requestBody.put("feedback_text", feedback);
         requestBody.put("target_personas", targetPersonas);
 
-        webClient.post()
-                .uri("/api/campaigns/" + campaignId + "/refine")
-                .body(Mono.just(requestBody), Map.class)
-                .retrieve()
-                .bodyToMono(AiResponseDto.class)
-                .doOnError(error -> {
-                    System.err.println("Error during refine call: " + error.getMessage());
-                    updateCampaignStatus(campaign.getCampaignId(), "FAILED");
-                })
-                .subscribe(aiResponse -> {
-                    List<MessageResult> oldResults = messageResultRepository.findByCampaign_CampaignId(campaignId);
-                    messageResultRepository.deleteAll(oldResults);
-                    saveAiResponse(campaign, aiResponse);
-                    updateCampaignStatus(campaign.getCampaignId(), "COMPLETED");
-                });
+        generationJobService.enqueue(campaignId, GenerationJobType.REFINE, requestBody);
     }
 
     @Transactional
     public void deleteCampaign(UUID campaignId) {
-        if (!campaignRepository.existsById(campaignId)) {
-            throw new ResourceNotFoundException("ID " + campaignId + "에 해당하는 캠페인을 찾을 수 없습니다.");
-        }
-        campaignRepository.deleteById(campaignId);
+        Campaign campaign = getCampaignById(campaignId);
+        generationJobService.deleteJobsForCampaign(campaignId);
+        campaignRepository.delete(campaign);
+        campaignStatusRollupService.recordDeleted(campaign.getRequestDate(), campaign.getStatus());
     }
 
     @Transactional
     public void updatePerformance(UUID campaignId, CampaignPerformanceUpdateDto performanceDto) {
+        if (performanceDto.getPerformanceStatus() == null) {
+            throw new IllegalArgumentException("성과 상태는 필수 입력 값입니다.");
+        }
+        CampaignStatus newStatus = CampaignStatus.afterPerformance(performanceDto.getPerformanceStatus());
+        requireTransition(campaignId, newStatus, "현재 상태에서는 성과를 등록할 수 없습니다.");
+
         Campaign campaign = getCampaignById(campaignId);
         campaign.setActualCtr(performanceDto.getActualCtr());
         campaign.setConversionRate(performanceDto.getConversionRate());
         campaign.setPerformanceStatus(performanceDto.getPerformanceStatus());
         campaign.setPerformanceNotes(performanceDto.getPerformanceNotes());
         campaign.setPerformanceRegistered(true);
-
-        switch (performanceDto.getPerformanceStatus()) {
-            case SUCCESS:
-                campaign.setStatus("SUCCESS_CASE");
-                break;
-            case FAILURE:
-            case UNDECIDED:
-            default:
-                campaign.setStatus("PERFORMANCE_REGISTERED");
-                break;
-        }
-        
         campaignRepository.save(campaign);
     }
 
@@ -284,7 +569,8 @@ public class CampaignService {
             throw new IllegalStateException("'미정' 상태의 캠페인은 RAG DB에 등록할 수 없습니다.");
         }
 
-        List<MessageResult> selectedMessages = messageResultRepository.findByCampaign_CampaignIdAndIsSelected(campaign.getCampaignId(), true);
+        List<MessageResult> selectedMessages = messageResultRepository.findByCampaign_CampaignIdAndGenerationAndIsSelected(
+                campaign.getCampaignId(), campaign.getCurrentGeneration(), true);
         if (selectedMessages.isEmpty()) {
             throw new IllegalStateException("RAG DB에 등록할 최종 선택된 메시지가 없습니다.");
         }
@@ -322,24 +608,53 @@ public class CampaignService {
                 campaign.getRequestDate()
         );
 
-        webClient.post()
-                .uri("/api/knowledge")
-                .body(Mono.just(successCaseDto), SuccessCaseDto.class)
-                .retrieve()
-                .bodyToMono(Void.class)
-                .doOnSuccess(aVoid -> {
-                    campaign.setRagRegistered(true);
-                    campaign.setStatus("RAG_REGISTERED");
-                    campaignRepository.save(campaign);
-                })
+        aiGateway.registerKnowledge(successCaseDto)
+                .doFinally(signal -> knowledgeCache.invalidateAll())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnSuccess(aVoid -> transactionTemplate.executeWithoutResult(status -> {
+                    if (transitionStatus(campaignId, CampaignStatus.RAG_REGISTERED)) {
+                        Campaign registered = getCampaignById(campaignId);
+                        registered.setRagRegistered(true);
+                    }
+                    knowledgeMirrorService.recordRegistered(campaignId.toString(), title, content, sourceType,
+                            campaignId, successCaseDto.getRegistrationDate());
+                }))
                 .subscribe();
     }
 
+    /**
+     * 캠페인 상태를 newStatus로 전이한다.
+     * 행을 잠그지 않고 읽은 상태가 허용된 출발 상태이면, 그 상태일 때만 바꾸는 조건부 UPDATE 한 번으로 전이한다.
+     * UPDATE가 반영된 경우에만 읽은 상태를 출발 상태로 집계하므로, 경쟁에서 진 전이는 집계에 남지 않는다.
+     * 허용되지 않는 전이이거나 다른 전이가 먼저 반영되었으면 false를 반환한다.
+     */
     @Transactional
-    public void updateCampaignStatus(UUID campaignId, String newStatus) {
-        Campaign campaign = getCampaignById(campaignId);
-        campaign.setStatus(newStatus);
-        campaignRepository.save(campaign);
+    public boolean transitionStatus(UUID campaignId, CampaignStatus newStatus) {
+        CampaignStatusSnapshot current = campaignRepository.findStatusSnapshot(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID " + campaignId + "에 해당하는 캠페인을 찾을 수 없습니다."));
+        if (!newStatus.canTransitionFrom(current.getStatus())) {
+            return false;
+        }
+        // REPEATABLE READ에서는 다시 읽어도 같은 스냅샷이 보이므로 재시도하지 않고 경쟁에서 진 것으로 처리
+        if (campaignRepository.compareAndSetStatus(campaignId, current.getStatus(), newStatus, LocalDateTime.now()) != 1) {
+            return false;
+        }
+        campaignStatusRollupService.recordTransition(current.getRequestDate(), current.getStatus(), newStatus);
+        return true;
+    }
+
+    private void requireTransition(UUID campaignId, CampaignStatus newStatus, String message) {
+        if (!transitionStatus(campaignId, newStatus)) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    // 세션 목록에 보여줄 마지막 메시지 미리보기 (서로게이트 쌍이 잘리지 않도록 코드 포인트 기준으로 자름)
+    private String toPreview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= CHAT_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, CHAT_PREVIEW_LENGTH));
     }
 
     // Helper methods for JSON conversion
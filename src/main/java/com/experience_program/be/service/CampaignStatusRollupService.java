@@ -0,0 +1,127 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.CampaignStatusMonthlyCount;
+import com.experience_program.be.repository.CampaignRepository;
+import com.experience_program.be.repository.CampaignStatusMonthlyCountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 월별/상태별 캠페인 수 집계를 관리한다.
+ * 집계 갱신은 상태를 바꾸는 쪽의 트랜잭션에 반드시 포함되어야 하므로 MANDATORY로 선언한다.
+ */
+@Service
+public class CampaignStatusRollupService {
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final CampaignStatusMonthlyCountRepository rollupRepository;
+    private final CampaignRepository campaignRepository;
+
+    @Autowired
+    public CampaignStatusRollupService(CampaignStatusMonthlyCountRepository rollupRepository, CampaignRepository campaignRepository) {
+        this.rollupRepository = rollupRepository;
+        this.campaignRepository = campaignRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(LocalDateTime requestDate, CampaignStatus status) {
+        addCount(requestDate, status, 1);
+    }
+
+    // 같은 시각에 같은 상태로 만든 여러 캠페인을 집계 행 갱신 한 번으로 반영
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(LocalDateTime requestDate, CampaignStatus status, int count) {
+        addCount(requestDate, status, count);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(LocalDateTime requestDate, CampaignStatus fromStatus, CampaignStatus toStatus) {
+        if (Objects.equals(fromStatus, toStatus)) {
+            return;
+        }
+        // 동시에 반대 방향으로 전이하는 트랜잭션끼리 교착되지 않도록 항상 같은 순서로 행을 잠금
+        if (fromStatus != null && (toStatus == null || fromStatus.name().compareTo(toStatus.name()) < 0)) {
+            addCount(requestDate, fromStatus, -1);
+            addCount(requestDate, toStatus, 1);
+        } else {
+            addCount(requestDate, toStatus, 1);
+            addCount(requestDate, fromStatus, -1);
+        }
+    }
+
+    /**
+     * 여러 캠페인의 상태 전이를 (월, 상태)별 증감으로 합쳐 집계 행마다 한 번씩만 갱신한다.
+     * 행은 (월, 상태) 순서로 잠그므로 단건 전이와 동시에 실행되어도 교착되지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(List<StatusTransition> transitions) {
+        Map<String, Map<String, Long>> deltas = new TreeMap<>();
+        for (StatusTransition transition : transitions) {
+            if (transition.requestDate() == null || Objects.equals(transition.fromStatus(), transition.toStatus())) {
+                continue;
+            }
+            Map<String, Long> monthDeltas = deltas.computeIfAbsent(transition.requestDate().format(MONTH_FORMATTER), month -> new TreeMap<>());
+            if (transition.fromStatus() != null) {
+                monthDeltas.merge(transition.fromStatus().name(), -1L, Long::sum);
+            }
+            if (transition.toStatus() != null) {
+                monthDeltas.merge(transition.toStatus().name(), 1L, Long::sum);
+            }
+        }
+        deltas.forEach((month, monthDeltas) -> monthDeltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                rollupRepository.addCount(month, status, delta);
+            }
+        }));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(LocalDateTime requestDate, CampaignStatus status) {
+        addCount(requestDate, status, -1);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CampaignStatusMonthlyCount> getCountsSince(YearMonth startMonth) {
+        return rollupRepository.findByIdRequestMonthGreaterThanEqual(startMonth.format(MONTH_FORMATTER));
+    }
+
+    // 집계가 실제 데이터와 어긋났을 때 campaigns 테이블에서 처음부터 다시 계산
+    @Transactional
+    public int rebuild() {
+        rollupRepository.deleteAllRows();
+        return rollupRepository.insertCountsFromCampaigns();
+    }
+
+    // 집계 테이블이 처음 만들어진 경우 기존 캠페인으로 한 번 채워 넣음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeIfEmpty() {
+        if (rollupRepository.count() == 0 && campaignRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private void addCount(LocalDateTime requestDate, CampaignStatus status, long delta) {
+        if (requestDate == null || status == null) {
+            return;
+        }
+        rollupRepository.addCount(requestDate.format(MONTH_FORMATTER), status.name(), delta);
+    }
+
+    public record StatusTransition(LocalDateTime requestDate, CampaignStatus fromStatus, CampaignStatus toStatus) {
+    }
+}
@@ -1,33 +1,100 @@
 package com.experience_program.be.service;
 
+import com.experience_program.be.dto.ChatMessageDto;
+import com.experience_program.be.dto.ChatSessionSummaryDto;
+import com.experience_program.be.dto.CursorPageDto;
+import com.experience_program.be.entity.ChatMessage;
 import com.experience_program.be.entity.ChatSession;
+import com.experience_program.be.repository.ChatMessageRepository;
 import com.experience_program.be.repository.ChatSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
 public class ChatService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ChatSessionRepository chatSessionRepository;
+    private final ChatMessageRepository chatMessageRepository;
 
     @Autowired
-    public ChatService(ChatSessionRepository chatSessionRepository) {
+    public ChatService(ChatSessionRepository chatSessionRepository, ChatMessageRepository chatMessageRepository) {
         this.chatSessionRepository = chatSessionRepository;
+        this.chatMessageRepository = chatMessageRepository;
+    }
+
+    public Page<ChatSessionSummaryDto> getChatSessions(Pageable pageable) {
+        return chatSessionRepository.findSummaries(pageable);
     }
 
-    public Page<ChatSession> getChatSessions(Pageable pageable) {
-        return chatSessionRepository.findAll(pageable);
+    /**
+     * 커서(keyset) 기반 대화 세션 목록 조회.
+     * (last_updated_at, conversation_id) 내림차순으로 after 토큰 다음부터 읽으므로 COUNT 쿼리가 없다.
+     */
+    public CursorPageDto<ChatSessionSummaryDto> getChatSessionsByCursor(String after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+        List<ChatSessionSummaryDto> rows;
+        if (!StringUtils.hasText(after)) {
+            rows = chatSessionRepository.findLatestSummaries(Limit.of(limit + 1));
+        } else {
+            String[] keys = CursorCodec.decode(after, 2);
+            LocalDateTime lastUpdatedAt;
+            try {
+                lastUpdatedAt = LocalDateTime.parse(keys[0]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+            rows = chatSessionRepository.findSummariesAfter(lastUpdatedAt, keys[1], Limit.of(limit + 1));
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ChatSessionSummaryDto> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ChatSessionSummaryDto last = content.get(content.size() - 1);
+            nextCursor = CursorCodec.encode(last.getLastUpdatedAt(), last.getConversationId());
+        }
+        return new CursorPageDto<>(content, nextCursor, hasNext);
     }
 
     public ChatSession getChatSessionDetails(String conversationId) {
-        return chatSessionRepository.findById(conversationId)
+        return chatSessionRepository.findWithMessagesByConversationId(conversationId)
                 .orElseThrow(() -> new ResourceNotFoundException("ID " + conversationId + "에 해당하는 대화 세션을 찾을 수 없습니다."));
     }
 
+    /**
+     * 대화 메시지를 최신순으로 페이지 조회한다.
+     * before(메시지 id)보다 오래된 메시지부터 읽으며, 다음 페이지는 응답의 nextCursor를 before로 전달한다.
+     */
+    public CursorPageDto<ChatMessageDto> getChatMessages(String conversationId, Long before, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽음
+        List<ChatMessage> rows = before == null
+                ? chatMessageRepository.findBySession_ConversationIdOrderByIdDesc(conversationId, Limit.of(limit + 1))
+                : chatMessageRepository.findBySession_ConversationIdAndIdLessThanOrderByIdDesc(conversationId, before, Limit.of(limit + 1));
+        if (rows.isEmpty() && !chatSessionRepository.existsById(conversationId)) {
+            throw new ResourceNotFoundException("ID " + conversationId + "에 해당하는 대화 세션을 찾을 수 없습니다.");
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ChatMessage> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+        return new CursorPageDto<>(content.stream().map(ChatMessageDto::from).toList(), nextCursor, hasNext);
+    }
+
     @Transactional
     public void deleteChatSession(String conversationId) {
         if (!chatSessionRepository.existsById(conversationId)) {
@@ -0,0 +1,87 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.repository.ChatMessageRepository;
+import com.experience_program.be.repository.ChatSessionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 대화 세션 보관 정책을 주기적으로 적용한다.
+ * 대화 요청 트랜잭션은 자기 세션만 다루고, 오래되거나 개수 제한을 넘은 세션은 여기서 묶음 단위로 삭제한다.
+ * 각 제한값이 0 이하이면 해당 정책은 적용하지 않는다.
+ */
+@Service
+public class ChatSessionRetentionService {
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAgeDays;
+    private final int maxSessions;
+    private final int maxSessionsPerMarketer;
+    private final int batchSize;
+
+    @Autowired
+    public ChatSessionRetentionService(ChatSessionRepository chatSessionRepository, ChatMessageRepository chatMessageRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${chat.retention.max-age-days}") int maxAgeDays,
+                                       @Value("${chat.retention.max-sessions}") int maxSessions,
+                                       @Value("${chat.retention.max-sessions-per-marketer}") int maxSessionsPerMarketer,
+                                       @Value("${chat.retention.batch-size}") int batchSize) {
+        this.chatSessionRepository = chatSessionRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAgeDays = maxAgeDays;
+        this.maxSessions = maxSessions;
+        this.maxSessionsPerMarketer = maxSessionsPerMarketer;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.retention.sweep-interval-ms}", initialDelayString = "${chat.retention.sweep-interval-ms}")
+    public void sweep() {
+        try {
+            if (maxAgeDays > 0) {
+                LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+                deleteInBatches(() -> chatSessionRepository.findIdsUpdatedBefore(cutoff, batchSize));
+            }
+            if (maxSessionsPerMarketer > 0) {
+                deleteInBatches(() -> chatSessionRepository.findIdsBeyondNewestPerMarketer(maxSessionsPerMarketer, batchSize));
+            }
+            if (maxSessions > 0) {
+                deleteInBatches(() -> chatSessionRepository.findIdsBeyondNewest(maxSessions, batchSize));
+            }
+        } catch (RuntimeException e) {
+            // 정리 중 대화가 이어진 세션 등으로 실패하면 다음 주기에 다시 시도
+            System.err.println("Chat session retention sweep failed: " + e.getMessage());
+        }
+    }
+
+    // 대상 ID를 batchSize개씩 읽어 메시지 → 세션 순으로 삭제 (묶음마다 별도 트랜잭션으로 잠금 시간을 짧게 유지)
+    private int deleteInBatches(Supplier<List<String>> nextBatch) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<String> conversationIds = nextBatch.get();
+                if (conversationIds.isEmpty()) {
+                    return 0;
+                }
+                chatMessageRepository.deleteAllBySessionIdIn(conversationIds);
+                return chatSessionRepository.deleteAllByConversationIdIn(conversationIds);
+            });
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+            if (deleted < batchSize) {
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.experience_program.be.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 한 레코드씩 읽는다.
+ * 따옴표로 감싼 필드 안의 쉼표/줄바꿈/"" 이스케이프를 처리하며, 파일 전체를 메모리에 올리지 않는다.
+ * 줄 끝은 CR, LF, CRLF를 모두 인식하고, 파일 맨 앞의 BOM(엑셀 UTF-8 저장 시 붙음)은 건너뛴다.
+ */
+final class CsvRecordReader {
+
+    // 닫히지 않은 따옴표 때문에 파일 나머지가 한 필드로 읽히는 것을 막기 위한 레코드 길이 상한
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private int pushedBack = -2;
+    private long recordNumber = 0;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 마지막으로 읽은 레코드의 번호 (헤더가 1)
+    long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 파일 끝이면 null.
+     * 형식이 잘못되어 더 이상 읽을 수 없으면 IllegalArgumentException.
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (recordNumber == 0 && c == '\uFEFF') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = 0;
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException(recordNumber + "행이 너무 길거나 따옴표가 닫히지 않았습니다.");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException(recordNumber + "행의 따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,58 @@
+package com.experience_program.be.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+/**
+ * 커서 기반 페이지네이션의 after 토큰을 만들고 해석한다.
+ * 클라이언트는 토큰 내용을 알 필요가 없으므로 정렬 키 값들을 이어 붙여 Base64URL로 감싼다.
+ * 토큰을 잘못 복사하거나 임의로 고친 경우 엉뚱한 위치부터 읽지 않도록 체크섬을 함께 넣어 검증한다.
+ */
+final class CursorCodec {
+
+    private static final String SEPARATOR = "\n";
+
+    private CursorCodec() {
+    }
+
+    static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        String body = raw.toString();
+        String token = body + SEPARATOR + checksum(body);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int checksumStart = raw.lastIndexOf(SEPARATOR);
+            if (checksumStart < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            String body = raw.substring(0, checksumStart);
+            if (!checksum(body).equals(raw.substring(checksumStart + SEPARATOR.length()))) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            String[] keys = body.split(SEPARATOR, -1);
+            if (keys.length != expectedKeys) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private static String checksum(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
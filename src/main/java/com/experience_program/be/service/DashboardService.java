@@ -1,20 +1,25 @@
 package com.experience_program.be.service;
 
+import com.experience_program.be.dto.CampaignDetailDto;
 import com.experience_program.be.dto.MonthlyStatusCountDto;
 import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.CampaignStatusMonthlyCount;
+import com.experience_program.be.entity.MessageResult;
 import com.experience_program.be.repository.CampaignRepository;
+import com.experience_program.be.repository.MessageResultRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -22,21 +27,20 @@ import java.util.stream.IntStream;
 public class DashboardService {
 
     private final CampaignRepository campaignRepository;
+    private final MessageResultRepository messageResultRepository;
+    private final CampaignStatusRollupService campaignStatusRollupService;
 
     @Autowired
-    public DashboardService(CampaignRepository campaignRepository) {
+    public DashboardService(CampaignRepository campaignRepository, MessageResultRepository messageResultRepository,
+                            CampaignStatusRollupService campaignStatusRollupService) {
         this.campaignRepository = campaignRepository;
+        this.messageResultRepository = messageResultRepository;
+        this.campaignStatusRollupService = campaignStatusRollupService;
     }
 
     public List<MonthlyStatusCountDto> getMonthlyCampaignSummary() {
-        // 1. 상태 분류 정의
-        List<String> ongoingStatuses = Arrays.asList("PROCESSING", "REFINING", "COMPLETED", "MESSAGE_SELECTED");
-        List<String> completedStatuses = Arrays.asList("PERFORMANCE_REGISTERED", "SUCCESS_CASE", "RAG_REGISTERED");
-
-        // 2. 기준 날짜 설정 (오늘로부터 6개월 전)
-        LocalDateTime startDate = LocalDate.now().minusMonths(6).withDayOfMonth(1).atStartOfDay();
-
-        // 3. 최근 6개월의 모든 월을 0으로 초기화 (순서 보장을 위해 LinkedHashMap 사용)
+        // 1. 상태 분류는 CampaignStatus의 Phase를 따름
+        // 2. 최근 6개월의 모든 월을 0으로 초기화 (순서 보장을 위해 LinkedHashMap 사용)
         Map<String, MonthlyStatusCountDto> monthlyMap = new LinkedHashMap<>();
         YearMonth currentMonth = YearMonth.now();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
@@ -45,30 +49,51 @@ public class DashboardService {
                 .sorted()
                 .forEach(month -> monthlyMap.put(month.format(formatter), new MonthlyStatusCountDto(month.format(formatter))));
 
-        // 4. DB에서 월별/상태별 캠페인 수 조회
-        List<Object[]> dbResults = campaignRepository.countMonthlyCampaignsByStatusSince(startDate);
+        // 3. 집계 테이블에서 월별/상태별 캠페인 수 조회 (최대 6개월 x 상태 수 만큼의 행)
+        List<CampaignStatusMonthlyCount> rollupRows = campaignStatusRollupService.getCountsSince(currentMonth.minusMonths(5));
 
-        // 5. DB 결과를 순회하며 맵에 값 채우기
-        for (Object[] row : dbResults) {
-            String month = (String) row[0];
-            String status = (String) row[1];
-            long count = (Long) row[2];
+        // 4. 집계 결과를 순회하며 맵에 값 채우기
+        for (CampaignStatusMonthlyCount row : rollupRows) {
+            String month = row.getId().getRequestMonth();
+            // 집계 테이블에 남은 예전 상태 값 하나 때문에 요약 전체가 실패하지 않도록 건너뜀
+            Optional<CampaignStatus> status = CampaignStatus.find(row.getId().getStatus());
+            if (status.isEmpty()) {
+                System.err.println("Unknown campaign status in monthly rollup, skipped: " + row.getId().getStatus());
+                continue;
+            }
+            CampaignStatus.Phase phase = status.get().getPhase();
+            long count = row.getCampaignCount();
 
             MonthlyStatusCountDto dto = monthlyMap.get(month);
             if (dto != null) {
-                if (ongoingStatuses.contains(status)) {
+                if (phase == CampaignStatus.Phase.ONGOING) {
                     dto.setOngoingCount(dto.getOngoingCount() + count);
-                } else if (completedStatuses.contains(status)) {
+                } else if (phase == CampaignStatus.Phase.COMPLETED) {
                     dto.setCompletedCount(dto.getCompletedCount() + count);
                 }
             }
         }
 
-        // 6. 맵의 값들을 리스트로 변환하여 반환
+        // 5. 맵의 값들을 리스트로 변환하여 반환
         return new ArrayList<>(monthlyMap.values());
     }
 
-    public List<Campaign> getRecentActivity() {
-        return campaignRepository.findTop5ByOrderByRequestDateDesc();
+    public int rebuildMonthlyCampaignSummary() {
+        return campaignStatusRollupService.rebuild();
+    }
+
+    // 응답 형식은 캠페인 상세와 같음. 캠페인 조회 1번 + 현재 세대 초안 조회 1번으로 끝남
+    @Transactional(readOnly = true)
+    public List<CampaignDetailDto> getRecentActivity() {
+        List<Campaign> campaigns = campaignRepository.findTop5ByOrderByRequestDateDesc();
+        if (campaigns.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> campaignIds = campaigns.stream().map(Campaign::getCampaignId).toList();
+        Map<UUID, List<MessageResult>> resultsByCampaignId = messageResultRepository.findCurrentGenerationByCampaignIds(campaignIds).stream()
+                .collect(Collectors.groupingBy(result -> result.getCampaign().getCampaignId()));
+        return campaigns.stream()
+                .map(campaign -> CampaignDetailDto.from(campaign, resultsByCampaignId.getOrDefault(campaign.getCampaignId(), List.of())))
+                .toList();
     }
 }
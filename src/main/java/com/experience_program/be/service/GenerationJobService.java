@@ -0,0 +1,172 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.entity.GenerationJob;
+import com.experience_program.be.entity.GenerationJobStatus;
+import com.experience_program.be.entity.GenerationJobType;
+import com.experience_program.be.repository.GenerationJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AI 생성 작업 큐.
+ * 작업은 캠페인과 같은 트랜잭션에서 DB에 기록되므로, 서버가 재시작되어도 유실되지 않는다.
+ */
+@Service
+public class GenerationJobService {
+
+    private final GenerationJobRepository generationJobRepository;
+    private final ObjectMapper objectMapper;
+    private final String instanceId;
+    private final int maxAttempts;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+    private final long leaseMs;
+
+    @Autowired
+    public GenerationJobService(GenerationJobRepository generationJobRepository, ObjectMapper objectMapper,
+                                @Value("${ai.jobs.instance-id:}") String instanceId,
+                                @Value("${ai.jobs.max-attempts}") int maxAttempts,
+                                @Value("${ai.jobs.backoff-initial-ms}") long backoffInitialMs,
+                                @Value("${ai.jobs.backoff-max-ms}") long backoffMaxMs,
+                                @Value("${ai.jobs.lease-ms}") long leaseMs) {
+        this.generationJobRepository = generationJobRepository;
+        this.objectMapper = objectMapper;
+        // 재시작 전후로 같은 값이어야 시작 시 이전 프로세스가 잡고 있던 작업을 되돌릴 수 있으므로, 지정하지 않으면 호스트 이름을 사용
+        this.instanceId = StringUtils.hasText(instanceId) ? instanceId : localHostName();
+        this.maxAttempts = maxAttempts;
+        this.backoffInitialMs = backoffInitialMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.leaseMs = leaseMs;
+    }
+
+    // 호출한 쪽의 트랜잭션(캠페인 저장)에 반드시 함께 묶이도록 MANDATORY
+    @Transactional(propagation = Propagation.MANDATORY)
+    public GenerationJob enqueue(UUID campaignId, GenerationJobType jobType, Object payload) {
+        GenerationJob job = GenerationJob.builder()
+                .campaignId(campaignId)
+                .jobType(jobType)
+                .status(GenerationJobStatus.PENDING)
+                .payload(convertObjectToJson(payload))
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        return generationJobRepository.save(job);
+    }
+
+    @Transactional
+    public List<GenerationJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<GenerationJob> jobs = generationJobRepository.findClaimableForUpdate(now, limit);
+        for (GenerationJob job : jobs) {
+            job.setStatus(GenerationJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedBy(instanceId);
+            job.setLockedUntil(now.plus(Duration.ofMillis(leaseMs)));
+        }
+        return jobs;
+    }
+
+    @Transactional
+    public void markSucceeded(UUID jobId) {
+        generationJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(GenerationJobStatus.SUCCEEDED);
+            job.setLockedBy(null);
+            job.setLockedUntil(null);
+            job.setLastError(null);
+        });
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프(지터 포함) 후 재시도하도록 되돌린다.
+     * 최대 시도 횟수를 넘기면 DEAD 상태로 옮기고 true를 반환한다.
+     */
+    @Transactional
+    public boolean markFailed(UUID jobId, String error) {
+        GenerationJob job = generationJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return false;
+        }
+        job.setLastError(error);
+        job.setLockedBy(null);
+        job.setLockedUntil(null);
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.setStatus(GenerationJobStatus.DEAD);
+            return true;
+        }
+        job.setStatus(GenerationJobStatus.PENDING);
+        job.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffDelayMs(job.getAttempts()))));
+        return false;
+    }
+
+    /**
+     * AI 서버 서킷이 열려 있어 호출하지 못한 작업을 서킷이 다시 열리는 시각으로 미룬다.
+     * 작업 자체의 실패가 아니므로 시도 횟수를 되돌려 DEAD로 넘어가지 않게 한다.
+     */
+    @Transactional
+    public void defer(UUID jobId, LocalDateTime nextAttemptAt, String reason) {
+        generationJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(GenerationJobStatus.PENDING);
+            job.setAttempts(Math.max(0, job.getAttempts() - 1));
+            job.setNextAttemptAt(nextAttemptAt);
+            job.setLastError(reason);
+            job.setLockedBy(null);
+            job.setLockedUntil(null);
+        });
+    }
+
+    // 서버 시작 시: 이전에 이 인스턴스가 잡고 있다가 중단된 작업과 점유가 만료된 작업을 모두 되돌림
+    @Transactional
+    public int recoverOnStartup() {
+        int released = generationJobRepository.releaseLocksHeldBy(GenerationJobStatus.PENDING, GenerationJobStatus.RUNNING, instanceId);
+        return released + recoverExpiredLocks();
+    }
+
+    // 다른 인스턴스가 작업 도중 죽은 경우: 점유 만료 후 다시 대기 상태로
+    @Transactional
+    public int recoverExpiredLocks() {
+        return generationJobRepository.releaseExpiredLocks(GenerationJobStatus.PENDING, GenerationJobStatus.RUNNING, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void deleteJobsForCampaign(UUID campaignId) {
+        generationJobRepository.deleteByCampaignId(campaignId);
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("호스트 이름을 확인할 수 없습니다. ai.jobs.instance-id를 지정해 주세요.", e);
+        }
+    }
+
+    private long backoffDelayMs(int attempts) {
+        long exponential = backoffInitialMs * (1L << Math.min(attempts - 1, 20));
+        long capped = Math.min(exponential, backoffMaxMs);
+        // 여러 작업이 동시에 재시도하지 않도록 절반~전체 구간에서 무작위 지연
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private String convertObjectToJson(Object object) {
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("객체를 JSON으로 변환하는 데 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.AiResponseDto;
+import com.experience_program.be.entity.GenerationJob;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * DB에 쌓인 AI 생성 작업을 가져와 제한된 개수의 워커 스레드에서 실행한다.
+ * 동시에 실행되는 생성 요청 수는 ai.jobs.concurrency를 넘지 않는다.
+ */
+@Component
+public class GenerationJobWorker {
+
+    private final GenerationJobService generationJobService;
+    private final CampaignService campaignService;
+    private final AiGateway aiGateway;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Semaphore slots;
+    private volatile boolean ready = false;
+
+    @Value("${ai.jobs.request-timeout-ms}")
+    private long requestTimeoutMs;
+
+    @Autowired
+    public GenerationJobWorker(GenerationJobService generationJobService, CampaignService campaignService,
+                               AiGateway aiGateway, ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                               @Value("${ai.jobs.concurrency}") int concurrency) {
+        this.generationJobService = generationJobService;
+        this.campaignService = campaignService;
+        this.aiGateway = aiGateway;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = Executors.newFixedThreadPool(concurrency);
+        this.slots = new Semaphore(concurrency);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverStuckJobs() {
+        generationJobService.recoverOnStartup();
+        ready = true;
+    }
+
+    @Scheduled(fixedDelayString = "${ai.jobs.poll-interval-ms}")
+    public void poll() {
+        if (!ready) {
+            return;
+        }
+        generationJobService.recoverExpiredLocks();
+
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+        List<GenerationJob> jobs = generationJobService.claim(free);
+        for (GenerationJob job : jobs) {
+            slots.acquireUninterruptibly();
+            executor.submit(() -> {
+                try {
+                    run(job);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중이던 작업은 다음 기동 시 recoverOnStartup에서 되돌려짐
+        executor.shutdownNow();
+    }
+
+    private void run(GenerationJob job) {
+        try {
+            switch (job.getJobType()) {
+                case GENERATE -> {
+                    AiResponseDto aiResponse = aiGateway.generate(readPayload(job)).block(Duration.ofMillis(requestTimeoutMs));
+                    transactionTemplate.executeWithoutResult(status -> {
+                        campaignService.applyGeneratedResponse(job.getCampaignId(), aiResponse);
+                        generationJobService.markSucceeded(job.getJobId());
+                    });
+                }
+                case REFINE -> {
+                    AiResponseDto aiResponse = aiGateway.refine(job.getCampaignId(), readPayload(job)).block(Duration.ofMillis(requestTimeoutMs));
+                    transactionTemplate.executeWithoutResult(status -> {
+                        campaignService.applyRefinedResponse(job.getCampaignId(), aiResponse);
+                        generationJobService.markSucceeded(job.getJobId());
+                    });
+                }
+            }
+        } catch (ResourceNotFoundException e) {
+            // 생성 도중 캠페인이 삭제된 경우: 작업도 함께 삭제되었으므로 더 할 일이 없음
+            System.err.println("Campaign " + job.getCampaignId() + " no longer exists, dropping job " + job.getJobId());
+        } catch (AiServerUnavailableException e) {
+            if (e.isCircuitOpen()) {
+                // 서킷이 열려 있어 호출하지 않은 경우: 시도 횟수를 쓰지 않고 서킷이 다시 열리는 시각으로 미룸
+                LocalDateTime retryAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(e.getRetryAtMillis()), ZoneId.systemDefault());
+                generationJobService.defer(job.getJobId(), retryAt, e.getMessage());
+            } else {
+                handleFailure(job, e);
+            }
+        } catch (Exception e) {
+            handleFailure(job, e);
+        }
+    }
+
+    private void handleFailure(GenerationJob job, Exception e) {
+        System.err.println("Error during " + job.getJobType() + " job " + job.getJobId() + ": " + e.getMessage());
+        boolean dead = generationJobService.markFailed(job.getJobId(), e.getMessage());
+        if (dead) {
+            campaignService.markGenerationFailed(job.getCampaignId());
+        }
+    }
+
+    private Map<String, Object> readPayload(GenerationJob job) throws IOException {
+        return objectMapper.readValue(job.getPayload(), new TypeReference<Map<String, Object>>() {});
+    }
+}
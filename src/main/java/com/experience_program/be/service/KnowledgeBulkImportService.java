@@ -0,0 +1,182 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.KnowledgeBulkResultDto;
+import com.experience_program.be.dto.KnowledgeBulkSummaryDto;
+import com.experience_program.be.dto.KnowledgeRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * NDJSON(한 줄에 지식 문서 하나) 대량 등록.
+ * 요청 본문을 한 줄씩 읽어 chunk 단위로 AI 서버에 제한된 동시성으로 등록하고,
+ * chunk가 끝날 때마다 줄별 결과를 응답에 바로 써서 메모리 사용량이 문서 수와 무관하게 유지되도록 한다.
+ * 문서마다 ID가 정해져 있으므로(knowledge_id 또는 내용 해시) next_line부터 다시 보내도 중복 등록되지 않는다.
+ * AI 서버를 사용할 수 없게 되면 나머지 줄을 보내지 않고 중단하며, 처리하지 못한 첫 줄을 next_line으로 알려 준다.
+ */
+@Service
+public class KnowledgeBulkImportService {
+
+    private final KnowledgeService knowledgeService;
+    private final KnowledgeCache knowledgeCache;
+    private final ObjectMapper objectMapper;
+    // 같은 내용이면 키 순서와 관계없이 같은 바이트가 나오도록 정렬해서 직렬화
+    private final ObjectMapper contentHashMapper;
+    private final int chunkSize;
+    private final int concurrency;
+
+    @Autowired
+    public KnowledgeBulkImportService(KnowledgeService knowledgeService, KnowledgeCache knowledgeCache, ObjectMapper objectMapper,
+                                      @Value("${knowledge.bulk.chunk-size}") int chunkSize,
+                                      @Value("${knowledge.bulk.concurrency}") int concurrency) {
+        this.knowledgeService = knowledgeService;
+        this.knowledgeCache = knowledgeCache;
+        this.objectMapper = objectMapper;
+        this.contentHashMapper = objectMapper.copy()
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    // fromLine(1부터 시작) 이전 줄은 파싱하지 않고 건너뜀. 빈 줄은 결과 없이 무시
+    public KnowledgeBulkSummaryDto importNdjson(BufferedReader reader, Writer writer, long fromLine) throws IOException {
+        long lineNumber = 0;
+        Progress progress = new Progress();
+        List<NumberedLine> chunk = new ArrayList<>(chunkSize);
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber < fromLine || line.isBlank()) {
+                continue;
+            }
+            chunk.add(new NumberedLine(lineNumber, line));
+            if (chunk.size() == chunkSize) {
+                if (!processChunk(chunk, writer, progress)) {
+                    return finish(writer, progress, progress.abortedAt);
+                }
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty() && !processChunk(chunk, writer, progress)) {
+            return finish(writer, progress, progress.abortedAt);
+        }
+        return finish(writer, progress, Math.max(lineNumber + 1, fromLine));
+    }
+
+    private KnowledgeBulkSummaryDto finish(Writer writer, Progress progress, long nextLine) throws IOException {
+        KnowledgeBulkSummaryDto summary = new KnowledgeBulkSummaryDto(progress.registered, progress.failed, nextLine, progress.error);
+        writeLine(writer, summary);
+        writer.flush();
+        return summary;
+    }
+
+    /**
+     * 결과는 줄 번호 순서대로 기록하고, 클라이언트 연결이 끊겨 쓰기에 실패하면 다음 chunk를 보내지 않고 중단.
+     * AI 서버를 사용할 수 없어 실패한 줄이 있으면 그 앞줄까지만 기록하고 false를 반환한다.
+     * (같은 chunk에서 그 뒤에 성공한 줄은 다시 보내도 같은 ID로 덮어쓰므로 결과에서 제외)
+     */
+    private boolean processChunk(List<NumberedLine> chunk, Writer writer, Progress progress) throws IOException {
+        List<LineResult> results = Flux.fromIterable(chunk)
+                .flatMapSequential(this::registerLine, concurrency)
+                .collectList()
+                .block();
+
+        long succeeded = 0;
+        boolean completed = true;
+        for (LineResult result : results) {
+            if (result.unavailable() != null) {
+                progress.abortedAt = result.dto().getLine();
+                progress.error = "AI 서버를 사용할 수 없어 중단했습니다: " + result.unavailable().getMessage();
+                completed = false;
+                break;
+            }
+            if (result.dto().getKnowledgeId() != null) {
+                succeeded++;
+                progress.registered++;
+            } else {
+                progress.failed++;
+            }
+            writeLine(writer, result.dto());
+        }
+        writer.flush();
+
+        if (succeeded > 0) {
+            knowledgeCache.invalidateAll();
+        }
+        return completed;
+    }
+
+    private Mono<LineResult> registerLine(NumberedLine numberedLine) {
+        KnowledgeRequestDto requestDto;
+        try {
+            requestDto = objectMapper.readValue(numberedLine.content(), KnowledgeRequestDto.class);
+        } catch (JsonProcessingException e) {
+            return Mono.just(LineResult.of(KnowledgeBulkResultDto.failed(numberedLine.number(), "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage())));
+        }
+        if (requestDto == null || !StringUtils.hasText(requestDto.getCampaignSummary())) {
+            return Mono.just(LineResult.of(KnowledgeBulkResultDto.failed(numberedLine.number(), "campaign_summary는 필수입니다.")));
+        }
+
+        String knowledgeId;
+        try {
+            knowledgeId = knowledgeIdOf(requestDto);
+        } catch (JsonProcessingException e) {
+            return Mono.just(LineResult.of(KnowledgeBulkResultDto.failed(numberedLine.number(), "campaign_details를 처리할 수 없습니다: " + e.getOriginalMessage())));
+        }
+        return knowledgeService.register(requestDto, knowledgeId)
+                .map(registeredId -> LineResult.of(KnowledgeBulkResultDto.registered(numberedLine.number(), registeredId)))
+                .onErrorResume(AiServerUnavailableException.class, error -> Mono.just(new LineResult(
+                        KnowledgeBulkResultDto.failed(numberedLine.number(), String.valueOf(error.getMessage())), error)))
+                .onErrorResume(error -> Mono.just(LineResult.of(KnowledgeBulkResultDto.failed(numberedLine.number(), String.valueOf(error.getMessage())))));
+    }
+
+    // knowledge_id가 있으면 그대로 쓰고, 없으면 문서 내용(요약 + 키 정렬한 상세)의 해시로 ID를 만듦
+    private String knowledgeIdOf(KnowledgeRequestDto requestDto) throws JsonProcessingException {
+        if (StringUtils.hasText(requestDto.getKnowledgeId())) {
+            return requestDto.getKnowledgeId();
+        }
+        Map<String, Object> document = new TreeMap<>();
+        document.put("campaign_summary", requestDto.getCampaignSummary());
+        document.put("campaign_details", requestDto.getCampaignDetails());
+        byte[] canonical = contentHashMapper.writeValueAsBytes(document);
+        return "knowledge-" + UUID.nameUUIDFromBytes(canonical);
+    }
+
+    private void writeLine(Writer writer, Object value) throws IOException {
+        writer.write(objectMapper.writeValueAsString(value));
+        writer.write('\n');
+    }
+
+    private record NumberedLine(long number, String content) {
+    }
+
+    // unavailable은 AI 서버를 사용할 수 없어 실패한 경우에만 설정
+    private record LineResult(KnowledgeBulkResultDto dto, AiServerUnavailableException unavailable) {
+        static LineResult of(KnowledgeBulkResultDto dto) {
+            return new LineResult(dto, null);
+        }
+    }
+
+    private static final class Progress {
+        private long registered;
+        private long failed;
+        private long abortedAt;
+        private String error;
+    }
+}
@@ -0,0 +1,54 @@
+package com.experience_program.be.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 지식 베이스 조회 결과를 보관하는 프로세스 내 캐시.
+ * 같은 키에 대한 동시 조회는 하나의 AI 서버 호출을 공유하며, 실패한 호출은 캐시에 남지 않는다.
+ * 지식이 변경되면 (AI 서버 식별자가 요청과 다를 수 있으므로) 전체를 무효화한다.
+ * 무효화할 때마다 세대 번호를 올리고 키에 포함하므로, 무효화 전에 시작된 조회 결과는 이후 조회에 쓰이지 않는다.
+ * 적중/미적중/제거 지표는 /actuator/metrics/cache.* (cache=knowledge)로 확인할 수 있다.
+ */
+@Component
+public class KnowledgeCache {
+
+    private final AsyncCache<CacheKey, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public KnowledgeCache(MeterRegistry meterRegistry,
+                          @Value("${knowledge.cache.ttl-ms}") long ttlMs,
+                          @Value("${knowledge.cache.max-size}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "knowledge");
+    }
+
+    public Mono<Object> get(String key, Supplier<Mono<Object>> loader) {
+        // 한 구독자가 취소해도 같은 호출을 기다리는 다른 요청에는 영향이 없도록 취소를 전파하지 않음
+        return Mono.fromFuture(() -> cache.get(new CacheKey(generation.get(), key), (k, executor) -> loader.get().toFuture()), true);
+    }
+
+    public void invalidateAll() {
+        // 세대를 먼저 올려야 무효화 직후 끝난 이전 세대 조회가 새 조회에 다시 쓰이지 않음
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    private record CacheKey(long generation, String key) {
+    }
+}
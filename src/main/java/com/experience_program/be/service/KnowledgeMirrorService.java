@@ -0,0 +1,407 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.KnowledgeDto;
+import com.experience_program.be.entity.KnowledgeBase;
+import com.experience_program.be.repository.KnowledgeBaseRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AI 서버 지식 베이스의 로컬 사본(knowledge_base)을 관리한다.
+ * 지식 등록/수정/삭제가 AI 서버에서 성공하면 같은 내용을 로컬에도 반영하고(write-through),
+ * 주기적으로 AI 서버 목록 전체와 비교해 누락되거나 어긋난 행을 바로잡는다.
+ * 전체 동기화가 한 번 성공하기 전까지 목록 조회는 AI 서버 목록을 사용한다.
+ */
+@Service
+public class KnowledgeMirrorService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_SOURCE_TYPE_LENGTH = 50;
+    private static final int MAX_RECONCILE_PAGES = 1000;
+    private static final DateTimeFormatter AI_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 클라이언트가 AI 서버 기준 이름으로 보내던 정렬 키를 엔티티 속성으로 변환
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "upload_date", "uploadDate",
+            "uploadDate", "uploadDate",
+            "title", "title",
+            "source_type", "sourceType",
+            "sourceType", "sourceType"
+    );
+
+    private final KnowledgeBaseRepository knowledgeBaseRepository;
+    private final AiGateway aiGateway;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcilePageSize;
+    private final Duration reconcileRequestTimeout;
+    private volatile boolean synchronizedOnce;
+
+    @Autowired
+    public KnowledgeMirrorService(KnowledgeBaseRepository knowledgeBaseRepository, AiGateway aiGateway,
+                                  ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                                  @Value("${knowledge.mirror.reconcile-page-size}") int reconcilePageSize,
+                                  @Value("${knowledge.mirror.reconcile-request-timeout-ms}") long reconcileRequestTimeoutMs) {
+        this.knowledgeBaseRepository = knowledgeBaseRepository;
+        this.aiGateway = aiGateway;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcilePageSize = Math.max(1, reconcilePageSize);
+        this.reconcileRequestTimeout = Duration.ofMillis(reconcileRequestTimeoutMs);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<KnowledgeDto> search(String title, String sourceType, Pageable pageable) {
+        Specification<KnowledgeBase> spec = (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(title)) {
+                predicates.add(criteriaBuilder.like(root.get("title"), "%" + title + "%"));
+            }
+            if (StringUtils.hasText(sourceType)) {
+                predicates.add(criteriaBuilder.equal(root.get("sourceType"), sourceType));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+        return knowledgeBaseRepository.findAll(spec, toLocalPageable(pageable)).map(KnowledgeDto::from);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<KnowledgeDto> findByExternalId(String externalId) {
+        return knowledgeBaseRepository.findByExternalId(externalId).map(KnowledgeDto::from);
+    }
+
+    @Transactional
+    public void recordRegistered(String externalId, String title, String contentText, String sourceType,
+                                 UUID relatedCampaignId, LocalDateTime uploadDate) {
+        KnowledgeBase knowledge = knowledgeBaseRepository.findByExternalId(externalId)
+                .orElseGet(() -> KnowledgeBase.builder().externalId(externalId).build());
+        knowledge.setTitle(truncate(title, MAX_TITLE_LENGTH));
+        knowledge.setContentText(contentText);
+        knowledge.setSourceType(truncate(sourceType, MAX_SOURCE_TYPE_LENGTH));
+        knowledge.setRelatedCampaignId(relatedCampaignId);
+        knowledge.setUploadDate(uploadDate != null ? uploadDate : LocalDateTime.now());
+        knowledge.setActive(true);
+        knowledgeBaseRepository.save(knowledge);
+    }
+
+    @Transactional
+    public void recordUpdated(String externalId, String title, String contentText, String sourceType) {
+        knowledgeBaseRepository.findByExternalId(externalId).ifPresent(knowledge -> {
+            if (title != null) {
+                knowledge.setTitle(truncate(title, MAX_TITLE_LENGTH));
+            }
+            knowledge.setContentText(contentText);
+            if (sourceType != null) {
+                knowledge.setSourceType(truncate(sourceType, MAX_SOURCE_TYPE_LENGTH));
+            }
+        });
+    }
+
+    @Transactional
+    public void recordDeleted(String externalId) {
+        knowledgeBaseRepository.deleteByExternalIdIn(List.of(externalId));
+    }
+
+    // 전체 동기화가 한 번이라도 끝났는지 여부. 그 전에는 로컬 사본이 비어 있거나 오래되었을 수 있음
+    public boolean isSynchronized() {
+        return synchronizedOnce;
+    }
+
+    /**
+     * 전체 동기화 전에 사용하는 AI 서버 목록 조회 (로컬 사본과 같은 형식으로 변환).
+     */
+    public Page<KnowledgeDto> listRemote(String title, String sourceType, Pageable pageable) {
+        Object response = aiGateway.listKnowledge(uriBuilder -> {
+                    uriBuilder.path("/api/knowledge")
+                            .queryParam("page", pageable.getPageNumber())
+                            .queryParam("size", pageable.getPageSize());
+                    if (StringUtils.hasText(title)) {
+                        uriBuilder.queryParam("title__contains", title);
+                    }
+                    if (StringUtils.hasText(sourceType)) {
+                        uriBuilder.queryParam("source_type", sourceType);
+                    }
+                    for (Sort.Order order : pageable.getSort()) {
+                        uriBuilder.queryParam("sort_by", order.getProperty());
+                        uriBuilder.queryParam("sort_order", order.getDirection().name().toLowerCase());
+                    }
+                    return uriBuilder.build();
+                })
+                .block(reconcileRequestTimeout);
+        JsonNode body = objectMapper.valueToTree(response);
+        List<JsonNode> items = extractItems(body);
+        if (items == null) {
+            throw new IllegalStateException("unrecognized listing format from AI server");
+        }
+        List<KnowledgeDto> content = items.stream()
+                .map(this::toKnowledge)
+                .filter(Objects::nonNull)
+                .map(KnowledgeDto::from)
+                .toList();
+        long offset = (long) pageable.getPageNumber() * pageable.getPageSize();
+        long total = totalCount(body).orElse(offset + items.size() + (items.size() >= pageable.getPageSize() ? 1 : 0));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * AI 서버 목록을 처음부터 끝까지 읽어 로컬 사본과 맞춘다.
+     * 페이지마다 별도 트랜잭션으로 반영하고, 메모리에는 AI 서버의 식별자만 모아 둔다.
+     * 목록을 끝까지 읽지 못했거나 응답 해석이 의심스러우면(식별자가 없는 항목, 빈 목록, 반복되는 페이지) 로컬 행은 삭제하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${knowledge.mirror.reconcile-interval-ms}", initialDelayString = "${knowledge.mirror.reconcile-initial-delay-ms}")
+    public void reconcile() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<String> remoteIds = new HashSet<>();
+        boolean complete = false;
+        int unparsed = 0;
+        try {
+            for (int page = 0; page < MAX_RECONCILE_PAGES; page++) {
+                int pageNumber = page;
+                Object response = aiGateway.listKnowledge(uriBuilder -> uriBuilder.path("/api/knowledge")
+                                .queryParam("page", pageNumber)
+                                .queryParam("size", reconcilePageSize)
+                                .build())
+                        .block(reconcileRequestTimeout);
+                List<JsonNode> items = extractItems(objectMapper.valueToTree(response));
+                if (items == null) {
+                    System.err.println("Knowledge reconciliation skipped: unrecognized listing format from AI server.");
+                    return;
+                }
+                // 빈 페이지가 나와야 목록 끝으로 판단 (요청보다 작은 페이지를 주는 서버도 있음)
+                if (items.isEmpty()) {
+                    complete = true;
+                    break;
+                }
+                List<KnowledgeBase> pageItems = new ArrayList<>();
+                int repeated = 0;
+                for (JsonNode item : items) {
+                    KnowledgeBase knowledge = toKnowledge(item);
+                    if (knowledge == null) {
+                        unparsed++;
+                    } else if (remoteIds.add(knowledge.getExternalId())) {
+                        pageItems.add(knowledge);
+                    } else {
+                        repeated++;
+                    }
+                }
+                // 페이지 번호를 무시하고 이미 받은 항목만 돌려주는 경우 끝을 알 수 없으므로 중단
+                if (pageItems.isEmpty() && repeated > 0) {
+                    System.err.println("Knowledge reconciliation stopped: AI server returned a page with no new items.");
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> upsertPage(pageItems));
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Knowledge reconciliation failed: " + e.getMessage());
+            return;
+        }
+
+        if (!complete) {
+            System.err.println("Knowledge reconciliation incomplete: local rows were not removed.");
+            return;
+        }
+        if (unparsed > 0) {
+            System.err.println("Knowledge reconciliation found " + unparsed + " item(s) without an id: local rows were not removed.");
+            return;
+        }
+        if (remoteIds.isEmpty()) {
+            System.err.println("Knowledge reconciliation received an empty listing: local rows were not removed.");
+            return;
+        }
+        try {
+            removeMissing(remoteIds, startedAt);
+            synchronizedOnce = true;
+        } catch (RuntimeException e) {
+            System.err.println("Knowledge reconciliation failed while removing stale rows: " + e.getMessage());
+        }
+    }
+
+    private void upsertPage(List<KnowledgeBase> pageItems) {
+        Map<String, KnowledgeBase> local = knowledgeBaseRepository.findByExternalIdIn(
+                        pageItems.stream().map(KnowledgeBase::getExternalId).toList()).stream()
+                .collect(Collectors.toMap(KnowledgeBase::getExternalId, Function.identity()));
+        for (KnowledgeBase incoming : pageItems) {
+            KnowledgeBase existing = local.get(incoming.getExternalId());
+            if (existing == null) {
+                knowledgeBaseRepository.save(incoming);
+            } else if (!sameContent(existing, incoming)) {
+                existing.setTitle(incoming.getTitle());
+                existing.setContentText(incoming.getContentText());
+                existing.setSourceType(incoming.getSourceType());
+                existing.setActive(incoming.isActive());
+                existing.setRelatedCampaignId(incoming.getRelatedCampaignId());
+            }
+        }
+    }
+
+    // 로컬 식별자를 externalId 순으로 reconcilePageSize개씩 읽어 AI 서버에 없는 행을 삭제
+    // 목록을 읽는 동안 write-through로 새로 들어온 행은 다음 동기화까지 남겨 둠
+    private void removeMissing(Set<String> remoteIds, LocalDateTime startedAt) {
+        String after = "";
+        while (true) {
+            String lastSeen = after;
+            List<String> localIds = knowledgeBaseRepository.findExternalIdsUploadedBefore(startedAt, lastSeen,
+                    PageRequest.of(0, reconcilePageSize));
+            if (localIds.isEmpty()) {
+                return;
+            }
+            List<String> stale = localIds.stream().filter(id -> !remoteIds.contains(id)).toList();
+            if (!stale.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> knowledgeBaseRepository.deleteByExternalIdIn(stale));
+            }
+            if (localIds.size() < reconcilePageSize) {
+                return;
+            }
+            after = localIds.get(localIds.size() - 1);
+        }
+    }
+
+    // 목록 응답 객체에 전체 개수가 있으면 사용
+    private Optional<Long> totalCount(JsonNode response) {
+        if (response == null || !response.isObject()) {
+            return Optional.empty();
+        }
+        for (String field : List.of("total", "total_count", "totalElements", "count")) {
+            if (response.path(field).canConvertToLong()) {
+                return Optional.of(response.get(field).asLong());
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 목록 응답은 배열이거나, 배열을 담은 items/content/data/results 필드를 가진 객체로 받음
+    private List<JsonNode> extractItems(JsonNode response) {
+        JsonNode array = response;
+        if (response != null && response.isObject()) {
+            array = null;
+            for (String field : List.of("items", "content", "data", "results")) {
+                if (response.path(field).isArray()) {
+                    array = response.get(field);
+                    break;
+                }
+            }
+        }
+        if (array == null || !array.isArray()) {
+            return null;
+        }
+        List<JsonNode> items = new ArrayList<>();
+        array.forEach(items::add);
+        return items;
+    }
+
+    private KnowledgeBase toKnowledge(JsonNode item) {
+        JsonNode metadata = item.path("metadata");
+        String externalId = text(item, metadata, "knowledge_id", "id", "campaign_id");
+        if (!StringUtils.hasText(externalId)) {
+            return null;
+        }
+        String contentText = text(item, metadata, "content_text", "document", "campaign_summary");
+        String title = text(item, metadata, "title");
+        String relatedCampaignId = text(item, metadata, "related_campaign_id");
+        JsonNode active = item.has("is_active") ? item.get("is_active") : metadata.path("is_active");
+
+        return KnowledgeBase.builder()
+                .externalId(externalId)
+                .title(truncate(title != null ? title : contentText, MAX_TITLE_LENGTH))
+                .contentText(contentText)
+                .sourceType(truncate(text(item, metadata, "source_type"), MAX_SOURCE_TYPE_LENGTH))
+                .isActive(active.isMissingNode() || active.isNull() || active.asBoolean())
+                .relatedCampaignId(parseUuid(relatedCampaignId))
+                .uploadDate(parseDate(text(item, metadata, "upload_date", "registration_date", "created_at")))
+                .build();
+    }
+
+    private String text(JsonNode item, JsonNode metadata, String... fields) {
+        for (String field : fields) {
+            for (JsonNode node : List.of(item, metadata)) {
+                JsonNode value = node.path(field);
+                if (!value.isMissingNode() && !value.isNull()) {
+                    return value.asText();
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean sameContent(KnowledgeBase a, KnowledgeBase b) {
+        return Objects.equals(a.getTitle(), b.getTitle())
+                && Objects.equals(a.getContentText(), b.getContentText())
+                && Objects.equals(a.getSourceType(), b.getSourceType())
+                && a.isActive() == b.isActive()
+                && Objects.equals(a.getRelatedCampaignId(), b.getRelatedCampaignId());
+    }
+
+    private Pageable toLocalPageable(Pageable pageable) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            String property = SORT_PROPERTIES.get(order.getProperty());
+            if (property != null) {
+                orders.add(new Sort.Order(order.getDirection(), property));
+            }
+        }
+        Sort sort = orders.isEmpty() ? Sort.by(Sort.Direction.DESC, "uploadDate") : Sort.by(orders);
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort) : Pageable.unpaged(sort);
+    }
+
+    private UUID parseUuid(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private LocalDateTime parseDate(String value) {
+        if (!StringUtils.hasText(value)) {
+            return LocalDateTime.now();
+        }
+        try {
+            return LocalDateTime.parse(value, AI_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return LocalDateTime.now();
+            }
+        }
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
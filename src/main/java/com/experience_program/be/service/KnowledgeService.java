@@ -1,15 +1,16 @@
 package com.experience_program.be.service;
 
 import com.experience_program.be.dto.AiKnowledgeDto;
+import com.experience_program.be.dto.KnowledgeDto;
 import com.experience_program.be.dto.KnowledgeRequestDto;
 import com.experience_program.be.dto.KnowledgeUpdateDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -20,15 +21,33 @@ import java.util.UUID;
 @Service
 public class KnowledgeService {
 
-    private final WebClient webClient;
+    private final AiGateway aiGateway;
+    private final KnowledgeCache knowledgeCache;
+    private final KnowledgeMirrorService knowledgeMirrorService;
 
     @Autowired
-    public KnowledgeService(WebClient webClient) {
-        this.webClient = webClient;
+    public KnowledgeService(AiGateway aiGateway, KnowledgeCache knowledgeCache, KnowledgeMirrorService knowledgeMirrorService) {
+        this.aiGateway = aiGateway;
+        this.knowledgeCache = knowledgeCache;
+        this.knowledgeMirrorService = knowledgeMirrorService;
     }
 
     public void registerKnowledge(KnowledgeRequestDto requestDto) {
-        String newCampaignId = "knowledge-" + UUID.randomUUID().toString();
+        String knowledgeId = StringUtils.hasText(requestDto.getKnowledgeId())
+                ? requestDto.getKnowledgeId()
+                : "knowledge-" + UUID.randomUUID();
+        register(requestDto, knowledgeId)
+                .doOnError(error -> {
+                    System.err.println("Error while registering knowledge: " + error.getMessage());
+                })
+                .doFinally(signal -> knowledgeCache.invalidateAll())
+                .subscribe();
+    }
+
+    // knowledgeId로 AI 서버에 등록하고, 성공하면 로컬 사본에 반영한 뒤 지식 ID를 반환 (캐시 무효화는 호출하는 쪽에서 처리)
+    // 같은 ID로 다시 등록하면 AI 서버와 로컬 사본 모두 같은 항목을 덮어씀
+    Mono<String> register(KnowledgeRequestDto requestDto, String knowledgeId) {
+        String newCampaignId = knowledgeId;
         LocalDateTime registrationDateTime = LocalDateTime.now();
 
         AiKnowledgeDto knowledgeData = new AiKnowledgeDto(
@@ -38,48 +57,45 @@ public class KnowledgeService {
                 registrationDateTime
         );
 
-        webClient.post()
-                .uri("/api/knowledge")
-                .body(Mono.just(knowledgeData), AiKnowledgeDto.class)
-                .retrieve()
-                .bodyToMono(Void.class)
-                .doOnError(error -> {
-                    System.err.println("Error while registering knowledge: " + error.getMessage());
-                })
-                .subscribe();
-    }
-
-    public Mono<Object> getAllKnowledge(String title, String sourceType, Pageable pageable) {
-        return webClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path("/api/knowledge")
-                            .queryParam("page", pageable.getPageNumber())
-                            .queryParam("size", pageable.getPageSize());
-
-                    if (StringUtils.hasText(title)) {
-                        uriBuilder.queryParam("title__contains", title);
-                    }
-                    if (StringUtils.hasText(sourceType)) {
-                        uriBuilder.queryParam("source_type", sourceType);
-                    }
-
-                    // AI 서버의 새로운 정렬 방식에 맞게 파라미터 변환
-                    for (Sort.Order order : pageable.getSort()) {
-                        uriBuilder.queryParam("sort_by", order.getProperty());
-                        uriBuilder.queryParam("sort_order", order.getDirection().name().toLowerCase());
+        return aiGateway.registerKnowledge(knowledgeData)
+                .publishOn(Schedulers.boundedElastic())
+                .then(Mono.fromCallable(() -> {
+                    // AI 서버에는 이미 등록되었으므로 로컬 반영 실패는 등록 실패로 보지 않음 (주기적 동기화에서 보정)
+                    try {
+                        knowledgeMirrorService.recordRegistered(newCampaignId,
+                                titleOf(requestDto.getCampaignDetails(), requestDto.getCampaignSummary()),
+                                requestDto.getCampaignSummary(),
+                                sourceTypeOf(requestDto.getCampaignDetails()),
+                                null,
+                                registrationDateTime);
+                    } catch (RuntimeException e) {
+                        System.err.println("Error while mirroring registered knowledge " + newCampaignId + ": " + e.getMessage());
                     }
+                    return newCampaignId;
+                }));
+    }
 
-                    return uriBuilder.build();
-                })
-                .retrieve()
-                .bodyToMono(Object.class);
+    // 목록은 로컬 사본(knowledge_base)에서 조회하므로 AI 서버 장애 중에도 동작함
+    // 단, 첫 전체 동기화가 끝나기 전에는 로컬 사본이 비어 있을 수 있어 AI 서버 목록을 우선 사용
+    public Page<KnowledgeDto> getAllKnowledge(String title, String sourceType, Pageable pageable) {
+        if (!knowledgeMirrorService.isSynchronized()) {
+            try {
+                return knowledgeMirrorService.listRemote(title, sourceType, pageable);
+            } catch (RuntimeException e) {
+                System.err.println("Knowledge listing from AI server failed, using local mirror: " + e.getMessage());
+            }
+        }
+        return knowledgeMirrorService.search(title, sourceType, pageable);
     }
 
+    // 상세는 AI 서버 기준으로 조회하고, AI 서버를 사용할 수 없으면 로컬 사본으로 대신 응답
     public Mono<Object> getKnowledgeById(String knowledgeId) {
-        return webClient.get()
-                .uri("/api/knowledge/" + knowledgeId)
-                .retrieve()
-                .bodyToMono(Object.class);
+        return knowledgeCache.get("id:" + knowledgeId, () -> aiGateway.getKnowledge(knowledgeId))
+                .onErrorResume(AiServerUnavailableException.class, error -> Mono.fromCallable(() -> knowledgeMirrorService.findByExternalId(knowledgeId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(Mono::justOrEmpty)
+                        .cast(Object.class)
+                        .switchIfEmpty(Mono.error(error)));
     }
 
     public void updateKnowledge(String knowledgeId, KnowledgeUpdateDto requestDto) {
@@ -92,25 +108,38 @@ public class KnowledgeService {
         requestBody.put("document", requestDto.getCampaignSummary());
         requestBody.put("metadata", metadata);
 
-        webClient.put()
-                .uri("/api/knowledge/" + knowledgeId)
-                .body(Mono.just(requestBody), Map.class)
-                .retrieve()
-                .bodyToMono(Void.class)
+        aiGateway.updateKnowledge(knowledgeId, requestBody)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnSuccess(aVoid -> knowledgeMirrorService.recordUpdated(knowledgeId,
+                        titleOf(requestDto.getCampaignDetails(), null),
+                        requestDto.getCampaignSummary(),
+                        sourceTypeOf(requestDto.getCampaignDetails())))
                 .doOnError(error -> {
                     System.err.println("Error while updating knowledge: " + error.getMessage());
                 })
+                .doFinally(signal -> knowledgeCache.invalidateAll())
                 .subscribe();
     }
 
     public void deleteKnowledge(String knowledgeId) {
-        webClient.delete()
-                .uri("/api/knowledge/" + knowledgeId)
-                .retrieve()
-                .bodyToMono(Void.class)
+        aiGateway.deleteKnowledge(knowledgeId)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnSuccess(aVoid -> knowledgeMirrorService.recordDeleted(knowledgeId))
                 .doOnError(error -> {
                     System.err.println("Error while deleting knowledge: " + error.getMessage());
                 })
+                .doFinally(signal -> knowledgeCache.invalidateAll())
                 .subscribe();
     }
+
+    // campaign_details에 title/source_type이 있으면 로컬 사본의 제목/분류로 사용
+    private String titleOf(Map<String, Object> details, String fallback) {
+        Object title = details != null ? details.get("title") : null;
+        return title != null ? title.toString() : fallback;
+    }
+
+    private String sourceTypeOf(Map<String, Object> details) {
+        Object sourceType = details != null ? details.get("source_type") : null;
+        return sourceType != null ? sourceType.toString() : null;
+    }
 }
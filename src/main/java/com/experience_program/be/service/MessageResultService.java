@@ -3,7 +3,12 @@ package com.experience_program.be.service;
 import com.experience_program.be.entity.MessageResult;
 import com.experience_program.be.repository.MessageResultRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,10 +18,38 @@ import java.util.UUID;
 public class MessageResultService {
 
     private final MessageResultRepository messageResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retainedGenerations;
+    private final int pruneBatchSize;
 
     @Autowired
-    public MessageResultService(MessageResultRepository messageResultRepository) {
+    public MessageResultService(MessageResultRepository messageResultRepository, TransactionTemplate transactionTemplate,
+                                @Value("${drafts.retained-generations}") int retainedGenerations,
+                                @Value("${drafts.prune-batch-size}") int pruneBatchSize) {
         this.messageResultRepository = messageResultRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retainedGenerations = Math.max(1, retainedGenerations);
+        this.pruneBatchSize = Math.max(1, pruneBatchSize);
+    }
+
+    // 현재 세대를 포함해 최근 retainedGenerations개 세대만 남기고 이전 초안을 정리
+    // 대상 ID를 pruneBatchSize개씩 읽어 삭제 (묶음마다 별도 트랜잭션으로 잠금 시간을 짧게 유지)
+    @Scheduled(fixedDelayString = "${drafts.prune-interval-ms}", initialDelayString = "${drafts.prune-interval-ms}")
+    public void pruneStaleGenerations() {
+        try {
+            while (true) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<UUID> resultIds = messageResultRepository.findStaleGenerationIds(retainedGenerations, PageRequest.of(0, pruneBatchSize));
+                    return resultIds.isEmpty() ? 0 : messageResultRepository.deleteAllByResultIdIn(resultIds);
+                });
+                if (deleted == null || deleted < pruneBatchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 남은 초안은 다음 주기에 다시 정리
+            System.err.println("Stale message draft pruning failed: " + e.getMessage());
+        }
     }
 
     public MessageResult saveMessageResult(MessageResult messageResult) {
@@ -0,0 +1,3 @@
+-- 일괄 생성된 캠페인 묶음 식별자와 묶음별 진행 상황 집계용 인덱스
+ALTER TABLE campaigns ADD COLUMN batch_id BINARY(16);
+CREATE INDEX idx_campaigns_batch_id_status ON campaigns (batch_id, status);
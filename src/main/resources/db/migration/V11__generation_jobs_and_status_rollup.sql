@@ -0,0 +1,35 @@
+-- AI 생성 작업 큐와 월별/상태별 캠페인 수 집계 테이블
+-- 기존 DB는 V1을 건너뛰므로 기준 스키마에 없던 테이블은 여기서 만들고, 집계는 현재 캠페인으로 채움
+
+CREATE TABLE IF NOT EXISTS generation_jobs (
+    job_id          BINARY(16)                                      NOT NULL,
+    campaign_id     BINARY(16)                                      NOT NULL,
+    job_type        ENUM ('GENERATE', 'REFINE')                     NOT NULL,
+    status          ENUM ('DEAD', 'PENDING', 'RUNNING', 'SUCCEEDED') NOT NULL,
+    payload         TEXT                                            NOT NULL,
+    attempts        INTEGER                                         NOT NULL,
+    next_attempt_at DATETIME(6)                                     NOT NULL,
+    locked_by       VARCHAR(255),
+    locked_until    DATETIME(6),
+    last_error      TEXT,
+    created_at      DATETIME(6)                                     NOT NULL,
+    updated_at      DATETIME(6),
+    PRIMARY KEY (job_id),
+    INDEX idx_generation_jobs_status_next_attempt (status, next_attempt_at),
+    INDEX idx_generation_jobs_campaign_id (campaign_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS campaign_monthly_status_counts (
+    request_month  VARCHAR(7)  NOT NULL,
+    status         VARCHAR(50) NOT NULL,
+    campaign_count BIGINT      NOT NULL,
+    PRIMARY KEY (request_month, status)
+) ENGINE = InnoDB;
+
+DELETE FROM campaign_monthly_status_counts;
+
+INSERT INTO campaign_monthly_status_counts (request_month, status, campaign_count)
+SELECT DATE_FORMAT(request_date, '%Y-%m'), status, COUNT(*)
+FROM campaigns
+WHERE status IS NOT NULL
+GROUP BY DATE_FORMAT(request_date, '%Y-%m'), status;
@@ -0,0 +1,80 @@
+-- 기존 ddl-auto=update로 관리되던 스키마를 그대로 옮긴 기준 버전
+-- (이미 테이블이 있는 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뜀)
+
+CREATE TABLE campaigns (
+    campaign_id               BINARY(16)    NOT NULL,
+    request_date              DATETIME(6)   NOT NULL,
+    marketer_id               VARCHAR(255),
+    purpose                   VARCHAR(255),
+    core_benefit_text         TEXT,
+    source_url                VARCHAR(2083),
+    custom_columns            TEXT,
+    status                    VARCHAR(50),
+    actual_ctr                DECIMAL(5, 2),
+    conversion_rate           DECIMAL(5, 2),
+    performance_status        ENUM ('FAILURE', 'SUCCESS', 'UNDECIDED'),
+    is_performance_registered BOOLEAN       NOT NULL DEFAULT FALSE,
+    is_rag_registered         BOOLEAN       NOT NULL DEFAULT FALSE,
+    performance_notes         TEXT,
+    updated_at                DATETIME(6),
+    PRIMARY KEY (campaign_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE message_results (
+    result_id             BINARY(16) NOT NULL,
+    campaign_id           BINARY(16) NOT NULL,
+    target_group_index    INTEGER,
+    target_name           VARCHAR(255),
+    target_features       TEXT,
+    classification_reason TEXT,
+    message_draft_index   INTEGER,
+    message_text          TEXT,
+    validator_report      TEXT,
+    is_selected           BIT,
+    PRIMARY KEY (result_id),
+    CONSTRAINT fk_message_results_campaign FOREIGN KEY (campaign_id) REFERENCES campaigns (campaign_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_sessions (
+    conversation_id VARCHAR(255) NOT NULL,
+    title           VARCHAR(255),
+    last_updated_at DATETIME(6),
+    PRIMARY KEY (conversation_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_messages (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    conversation_id VARCHAR(255) NOT NULL,
+    role            VARCHAR(255) NOT NULL,
+    content         TEXT         NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chat_messages_session FOREIGN KEY (conversation_id) REFERENCES chat_sessions (conversation_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE knowledge_base (
+    knowledge_id        BINARY(16)  NOT NULL,
+    title               VARCHAR(255),
+    content_text        TEXT,
+    source_type         VARCHAR(50),
+    upload_date         DATETIME(6) NOT NULL,
+    is_active           BIT,
+    related_campaign_id BINARY(16),
+    PRIMARY KEY (knowledge_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE marketers (
+    marketer_id VARCHAR(255) NOT NULL,
+    name        VARCHAR(255),
+    email       VARCHAR(255),
+    role        VARCHAR(255),
+    PRIMARY KEY (marketer_id),
+    CONSTRAINT uk_marketers_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE aivle_columns (
+    column_name   VARCHAR(255) NOT NULL,
+    description   TEXT,
+    default_value VARCHAR(255),
+    PRIMARY KEY (column_name)
+) ENGINE = InnoDB;
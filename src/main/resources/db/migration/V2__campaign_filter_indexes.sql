@@ -0,0 +1,4 @@
+-- GET /api/campaigns 필터 조합에 맞춘 인덱스 (requestDate 조건은 반개구간 범위 검색으로 사용)
+CREATE INDEX idx_campaigns_request_date ON campaigns (request_date);
+CREATE INDEX idx_campaigns_marketer_id_request_date ON campaigns (marketer_id, request_date);
+CREATE INDEX idx_campaigns_status_request_date ON campaigns (status, request_date);
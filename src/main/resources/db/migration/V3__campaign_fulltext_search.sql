@@ -0,0 +1,3 @@
+-- GET /api/campaigns?q= 전문 검색용 인덱스 (ngram 파서로 한국어도 2글자 단위로 색인)
+CREATE FULLTEXT INDEX ftx_campaigns_purpose_core_benefit ON campaigns (purpose, core_benefit_text) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ftx_message_results_message_text ON message_results (message_text) WITH PARSER ngram;
@@ -0,0 +1,4 @@
+-- 메시지 초안 세대 관리: 재생성 시 기존 초안을 지우지 않고 새 세대로 추가한 뒤 캠페인의 현재 세대 포인터만 변경
+ALTER TABLE campaigns ADD COLUMN current_generation INT NOT NULL DEFAULT 1;
+ALTER TABLE message_results ADD COLUMN generation INT NOT NULL DEFAULT 1;
+CREATE INDEX idx_message_results_campaign_id_generation ON message_results (campaign_id, generation);
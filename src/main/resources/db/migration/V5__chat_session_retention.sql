@@ -0,0 +1,4 @@
+-- 대화 세션 보관 정책(기간/전체 개수/마케터별 개수)을 백그라운드에서 적용하기 위한 컬럼과 인덱스
+ALTER TABLE chat_sessions ADD COLUMN marketer_id VARCHAR(255);
+CREATE INDEX idx_chat_sessions_last_updated_at ON chat_sessions (last_updated_at);
+CREATE INDEX idx_chat_sessions_marketer_id_last_updated_at ON chat_sessions (marketer_id, last_updated_at);
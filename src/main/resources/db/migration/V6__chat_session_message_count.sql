@@ -0,0 +1,5 @@
+-- 대화 턴 저장 시 기존 메시지를 읽지 않고 세션 행만 갱신할 수 있도록 메시지 수를 비정규화
+ALTER TABLE chat_sessions ADD COLUMN message_count INT NOT NULL DEFAULT 0;
+
+UPDATE chat_sessions s
+SET s.message_count = (SELECT COUNT(*) FROM chat_messages m WHERE m.conversation_id = s.conversation_id);
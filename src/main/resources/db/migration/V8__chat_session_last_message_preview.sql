@@ -0,0 +1,6 @@
+-- 세션 목록(사이드바)을 chat_messages 조회 없이 보여주기 위한 마지막 메시지 미리보기
+ALTER TABLE chat_sessions ADD COLUMN last_message_preview VARCHAR(200);
+
+UPDATE chat_sessions s
+JOIN chat_messages m ON m.id = (SELECT MAX(m2.id) FROM chat_messages m2 WHERE m2.conversation_id = s.conversation_id)
+SET s.last_message_preview = LEFT(m.content, 200);
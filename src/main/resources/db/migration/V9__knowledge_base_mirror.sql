@@ -0,0 +1,5 @@
+-- AI 서버 지식 베이스의 로컬 사본: AI 서버 식별자로 매칭하고, 목록 필터/정렬 컬럼에 인덱스 추가
+ALTER TABLE knowledge_base ADD COLUMN external_id VARCHAR(255);
+CREATE UNIQUE INDEX uk_knowledge_base_external_id ON knowledge_base (external_id);
+CREATE INDEX idx_knowledge_base_source_type ON knowledge_base (source_type);
+CREATE INDEX idx_knowledge_base_upload_date ON knowledge_base (upload_date);
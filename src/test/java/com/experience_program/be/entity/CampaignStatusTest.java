@@ -0,0 +1,109 @@
+package com.experience_program.be.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.experience_program.be.entity.CampaignStatus.COMPLETED;
+import static com.experience_program.be.entity.CampaignStatus.FAILED;
+import static com.experience_program.be.entity.CampaignStatus.MESSAGE_SELECTED;
+import static com.experience_program.be.entity.CampaignStatus.PERFORMANCE_REGISTERED;
+import static com.experience_program.be.entity.CampaignStatus.PROCESSING;
+import static com.experience_program.be.entity.CampaignStatus.RAG_REGISTERED;
+import static com.experience_program.be.entity.CampaignStatus.REFINING;
+import static com.experience_program.be.entity.CampaignStatus.SUCCESS_CASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CampaignStatusTest {
+
+    @Test
+    void everyStatusHasAllowedSources() {
+        for (CampaignStatus status : CampaignStatus.values()) {
+            assertThat(status.allowedSources()).as(status.name()).isNotNull();
+        }
+    }
+
+    @Test
+    void processingIsOnlySetOnCreation() {
+        assertThat(PROCESSING.allowedSources()).isEmpty();
+        for (CampaignStatus status : CampaignStatus.values()) {
+            assertThat(PROCESSING.canTransitionFrom(status)).as(status.name()).isFalse();
+        }
+    }
+
+    @Test
+    void generationFinishesOnlyFromInProgressStates() {
+        assertThat(COMPLETED.allowedSources()).containsExactlyInAnyOrder(PROCESSING, REFINING);
+        assertThat(FAILED.allowedSources()).containsExactlyInAnyOrder(PROCESSING, REFINING);
+    }
+
+    @Test
+    void lateFailureDoesNotOverwriteFinishedCampaign() {
+        for (CampaignStatus status : EnumSet.complementOf(EnumSet.of(PROCESSING, REFINING))) {
+            assertThat(FAILED.canTransitionFrom(status)).as(status.name()).isFalse();
+        }
+    }
+
+    @Test
+    void refiningStartsFromGeneratedOrFailedCampaigns() {
+        assertThat(REFINING.allowedSources()).containsExactlyInAnyOrder(COMPLETED, MESSAGE_SELECTED, FAILED);
+        assertThat(REFINING.canTransitionFrom(PROCESSING)).isFalse();
+        assertThat(REFINING.canTransitionFrom(REFINING)).isFalse();
+    }
+
+    @Test
+    void messageSelectionCanBeRepeated() {
+        assertThat(MESSAGE_SELECTED.allowedSources()).containsExactlyInAnyOrder(COMPLETED, MESSAGE_SELECTED);
+    }
+
+    @Test
+    void performanceCanBeRegisteredAgainButNotAfterRagRegistration() {
+        Set<CampaignStatus> performanceSources = EnumSet.of(COMPLETED, MESSAGE_SELECTED, PERFORMANCE_REGISTERED, SUCCESS_CASE);
+        assertThat(PERFORMANCE_REGISTERED.allowedSources()).isEqualTo(performanceSources);
+        assertThat(SUCCESS_CASE.allowedSources()).isEqualTo(performanceSources);
+        assertThat(PERFORMANCE_REGISTERED.canTransitionFrom(RAG_REGISTERED)).isFalse();
+        assertThat(SUCCESS_CASE.canTransitionFrom(RAG_REGISTERED)).isFalse();
+    }
+
+    @Test
+    void ragRegistrationRequiresRegisteredPerformance() {
+        assertThat(RAG_REGISTERED.allowedSources()).containsExactlyInAnyOrder(PERFORMANCE_REGISTERED, SUCCESS_CASE);
+    }
+
+    @Test
+    void unknownCurrentStatusAllowsNoTransition() {
+        for (CampaignStatus status : CampaignStatus.values()) {
+            assertThat(status.canTransitionFrom(null)).as(status.name()).isFalse();
+        }
+    }
+
+    @Test
+    void allowedSourcesCannotBeModified() {
+        assertThatThrownBy(() -> COMPLETED.allowedSources().add(FAILED))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(COMPLETED.canTransitionFrom(FAILED)).isFalse();
+    }
+
+    @Test
+    void afterPerformanceMapsSuccessToSuccessCase() {
+        assertThat(CampaignStatus.afterPerformance(PerformanceStatus.SUCCESS)).isEqualTo(SUCCESS_CASE);
+        assertThat(CampaignStatus.afterPerformance(PerformanceStatus.FAILURE)).isEqualTo(PERFORMANCE_REGISTERED);
+        assertThat(CampaignStatus.afterPerformance(PerformanceStatus.UNDECIDED)).isEqualTo(PERFORMANCE_REGISTERED);
+    }
+
+    @Test
+    void fromRejectsUnknownValues() {
+        assertThat(CampaignStatus.from("COMPLETED")).isEqualTo(COMPLETED);
+        assertThatThrownBy(() -> CampaignStatus.from("DONE")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CampaignStatus.from(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findReturnsEmptyForUnknownValues() {
+        assertThat(CampaignStatus.find("FAILED")).contains(FAILED);
+        assertThat(CampaignStatus.find("DONE")).isEmpty();
+        assertThat(CampaignStatus.find(null)).isEmpty();
+    }
+}
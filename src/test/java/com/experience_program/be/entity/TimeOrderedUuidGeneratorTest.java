@@ -0,0 +1,57 @@
+package com.experience_program.be.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void generatesVersion7VariantRfc4122Uuids() {
+        UUID uuid = TimeOrderedUuidGenerator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void embedsCurrentUnixMillisInTopBits() {
+        long previousMillis = TimeOrderedUuidGenerator.next().getMostSignificantBits() >>> 16;
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.next();
+        long after = System.currentTimeMillis();
+
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        // 순번이 넘쳐 다음 밀리초 값을 미리 쓴 경우 시계보다 앞설 수 있으나, 직전 ID보다 1ms 넘게 앞서지는 않음
+        assertThat(millis).isBetween(before, Math.max(after, previousMillis + 1));
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinTheSameMillisecond() {
+        // 한 밀리초에 만들 수 있는 순번(4096개)을 넘겨 다음 밀리초로 넘어가는 경우까지 포함
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(TimeOrderedUuidGenerator.next());
+        }
+
+        long sameMillisPairs = 0;
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+            // BINARY(16) 컬럼과 같은 순서(상위 64비트 부호 없는 비교)로 정렬되어야 함
+            assertThat(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()))
+                    .as("uuid %d must sort after uuid %d", i, i - 1)
+                    .isNegative();
+            if (previous.getMostSignificantBits() >>> 16 == current.getMostSignificantBits() >>> 16) {
+                sameMillisPairs++;
+            }
+        }
+        assertThat(sameMillisPairs).isPositive();
+        assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+    }
+}
@@ -0,0 +1,167 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.entity.CampaignStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/campaigns 필터 조합(CampaignSpecification.withDynamicQuery)이 만든 SQL을 실제 MySQL에서 EXPLAIN해
+ * 복합 인덱스로 범위 검색하는지(풀 스캔이 아닌지) 확인한다.
+ * Hibernate가 실제로 실행한 SQL을 StatementInspector로 받아 같은 바인딩 값으로 실행 계획을 구한다.
+ */
+@SpringBootTest(properties = {
+        "ai.jobs.poll-interval-ms=3600000",
+        "drafts.prune-interval-ms=3600000",
+        "chat.retention.sweep-interval-ms=3600000",
+        "knowledge.mirror.reconcile-initial-delay-ms=3600000",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.experience_program.be.service.CampaignFilterIndexTest$CapturingStatementInspector"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CampaignFilterIndexTest {
+
+    private static final int CAMPAIGNS = 20000;
+    private static final int MARKETERS = 50;
+    private static final int DAYS = 365;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final int PAGE_SIZE = 20;
+
+    // "c1_0.request_date>=?"처럼 컬럼과 비교 연산자 뒤의 바인딩 자리, 그 외(limit)는 연산자 없이 "?"만 매칭
+    private static final Pattern PARAMETER = Pattern.compile("(?:\\.(\\w+)(>=|<|=))?\\?");
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 날짜(1년), 마케터(50명), 상태가 고르게 섞인 캠페인을 request_date를 직접 지정해 저장
+    @BeforeAll
+    void seedCampaigns() {
+        CampaignStatus[] statuses = CampaignStatus.values();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < CAMPAIGNS; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID().toString(),
+                    FIRST_DAY.plusDays(i % DAYS).atTime(9, 0).plusMinutes(i % 600),
+                    "marketer-" + (i % MARKETERS),
+                    "캠페인 " + i,
+                    statuses[i % statuses.length].name()
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO campaigns (campaign_id, request_date, marketer_id, purpose, status, performance_status) "
+                + "VALUES (UUID_TO_BIN(?), ?, ?, ?, ?, 'UNDECIDED')", rows);
+        jdbcTemplate.execute("ANALYZE TABLE campaigns");
+    }
+
+    @Test
+    void marketerWithDateRangeUsesMarketerDateIndex() {
+        List<Map<String, Object>> plan = explainListQuery(null, "marketer-7",
+                FIRST_DAY.plusDays(100), FIRST_DAY.plusDays(106));
+
+        assertUsesIndex(plan, "idx_campaigns_marketer_id_request_date");
+    }
+
+    @Test
+    void marketerWithOpenEndedDateRangeUsesMarketerDateIndex() {
+        assertUsesIndex(explainListQuery(null, "marketer-7", FIRST_DAY.plusDays(300), null),
+                "idx_campaigns_marketer_id_request_date");
+        assertUsesIndex(explainListQuery(null, "marketer-7", null, FIRST_DAY.plusDays(30)),
+                "idx_campaigns_marketer_id_request_date");
+    }
+
+    @Test
+    void statusWithDateRangeUsesStatusDateIndex() {
+        List<Map<String, Object>> plan = explainListQuery(CampaignStatus.FAILED.name(), null,
+                FIRST_DAY.plusDays(100), FIRST_DAY.plusDays(106));
+
+        assertUsesIndex(plan, "idx_campaigns_status_request_date");
+    }
+
+    @Test
+    void statusWithOpenEndedDateRangeUsesStatusDateIndex() {
+        assertUsesIndex(explainListQuery(CampaignStatus.FAILED.name(), null, FIRST_DAY.plusDays(330), null),
+                "idx_campaigns_status_request_date");
+        assertUsesIndex(explainListQuery(CampaignStatus.FAILED.name(), null, null, FIRST_DAY.plusDays(30)),
+                "idx_campaigns_status_request_date");
+    }
+
+    private void assertUsesIndex(List<Map<String, Object>> plan, String index) {
+        assertThat(plan).singleElement().satisfies(row -> {
+            assertThat(row.get("table")).isEqualTo("c1_0");
+            assertThat(row.get("key")).isEqualTo(index);
+            assertThat(row.get("type")).isNotEqualTo("ALL");
+        });
+    }
+
+    /**
+     * 목록 API와 같은 경로(CampaignService.getAllCampaigns)로 한 페이지를 조회하고,
+     * 그때 실행된 목록 SELECT를 같은 값으로 다시 바인딩해 EXPLAIN한다.
+     */
+    private List<Map<String, Object>> explainListQuery(String status, String marketerId, LocalDate from, LocalDate to) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        campaignService.getAllCampaigns(null, from, to, status, null, marketerId, null,
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "requestDate")));
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.startsWith("select") && statement.contains("order by"))
+                .findFirst()
+                .orElseThrow();
+
+        List<Object> args = new ArrayList<>();
+        Matcher matcher = PARAMETER.matcher(sql);
+        while (matcher.find()) {
+            args.add(bindValue(matcher.group(1), matcher.group(2), status, marketerId, from, to));
+        }
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args.toArray());
+    }
+
+    private Object bindValue(String column, String operator, String status, String marketerId, LocalDate from, LocalDate to) {
+        if (column == null) {
+            return PAGE_SIZE;
+        }
+        return switch (column) {
+            case "request_date" -> ">=".equals(operator) ? from.atStartOfDay() : to.plusDays(1).atStartOfDay();
+            case "status" -> status;
+            case "marketer_id" -> marketerId;
+            default -> throw new IllegalStateException("예상하지 못한 바인딩 컬럼입니다: " + column);
+        };
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
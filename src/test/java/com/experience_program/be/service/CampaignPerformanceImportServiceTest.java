@@ -0,0 +1,67 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.PerformanceImportResultDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class CampaignPerformanceImportServiceTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final CampaignPerformanceImportService service = new CampaignPerformanceImportService(jdbcTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(CampaignStatusRollupService.class), 2, 100);
+
+    @Test
+    void reportsEveryRowOfAFailedChunkAndKeepsGoing() throws Exception {
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .doNothing()
+                .when(jdbcTemplate).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+
+        PerformanceImportResultDto result = service.importCsv(new StringReader(
+                "campaign_id,actual_ctr,conversion_rate,performance_status\n" +
+                row() + row() + row()));
+
+        // 두 번째 chunk는 잠금 조회 결과가 비어 있어 '캠페인 없음'으로 실패
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getUpdatedRows()).isZero();
+        assertThat(result.getFailedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(PerformanceImportResultDto.RowError::getRow).containsExactly(2L, 3L, 4L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("connection reset");
+        assertThat(result.getErrors().get(2).getMessage()).contains("찾을 수 없습니다");
+    }
+
+    @Test
+    void reportsUnclosedQuoteAndStops() throws Exception {
+        PerformanceImportResultDto result = service.importCsv(new StringReader(
+                "campaign_id,actual_ctr,conversion_rate,performance_status\n" +
+                "\"" + UUID.randomUUID() + ",1.5,0.5,SUCCESS\n"));
+
+        assertThat(result.getFailedRows()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).getMessage()).contains("따옴표");
+    }
+
+    @Test
+    void acceptsHeaderWithByteOrderMark() throws Exception {
+        PerformanceImportResultDto result = service.importCsv(new StringReader(
+                "\uFEFFcampaign_id,actual_ctr,conversion_rate,performance_status\n" + row()));
+
+        assertThat(result.getTotalRows()).isEqualTo(1);
+    }
+
+    private String row() {
+        return UUID.randomUUID() + ",1.50,0.25,SUCCESS\n";
+    }
+}
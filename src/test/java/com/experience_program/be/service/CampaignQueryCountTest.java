@@ -0,0 +1,128 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.CampaignDetailDto;
+import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.MessageResult;
+import com.experience_program.be.entity.PerformanceStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캠페인 상세/최근 활동 조회가 초안 개수와 관계없이 고정된 수의 SQL만 실행하는지 Hibernate Statistics로 검증한다.
+ * (open-in-view를 끈 뒤 직렬화 중 지연 로딩이나 N+1 조회가 다시 생기지 않도록 하기 위함)
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CampaignService.class, DashboardService.class, CampaignStatusRollupService.class})
+class CampaignQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    // 조회 경로에서 쓰지 않는 외부 연동 빈
+    @MockitoBean
+    private AiGateway aiGateway;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private GenerationJobService generationJobService;
+
+    @MockitoBean
+    private KnowledgeCache knowledgeCache;
+
+    @MockitoBean
+    private KnowledgeMirrorService knowledgeMirrorService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void campaignDetailReadsOnlyCurrentGenerationDrafts() {
+        Campaign campaign = persistCampaign(2, 3);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        CampaignDetailDto detail = campaignService.getCampaignDetail(campaign.getCampaignId());
+
+        assertThat(detail.getMessageResults()).hasSize(3)
+                .allSatisfy(result -> assertThat(result.getGeneration()).isEqualTo(2));
+        // 캠페인 1번 + 현재 세대 초안 1번, 이전 세대 초안은 엔티티로 읽지 않음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1 + 3);
+    }
+
+    @Test
+    void recentActivityDoesNotQueryPerCampaign() {
+        for (int i = 0; i < 5; i++) {
+            persistCampaign(1, 4);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CampaignDetailDto> recent = dashboardService.getRecentActivity();
+
+        assertThat(recent).hasSize(5);
+        assertThat(recent).allSatisfy(campaign -> assertThat(campaign.getMessageResults()).hasSize(4));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    // 현재 세대와 이전 세대에 각각 draftsPerGeneration개의 초안을 가진 캠페인을 저장
+    private Campaign persistCampaign(int currentGeneration, int draftsPerGeneration) {
+        Campaign campaign = entityManager.persist(Campaign.builder()
+                .marketerId("marketer-" + UUID.randomUUID())
+                .purpose("봄맞이 할인")
+                .status(CampaignStatus.COMPLETED)
+                .performanceStatus(PerformanceStatus.UNDECIDED)
+                .currentGeneration(currentGeneration)
+                .build());
+        for (int generation = Math.max(1, currentGeneration - 1); generation <= currentGeneration; generation++) {
+            for (int i = 1; i <= draftsPerGeneration; i++) {
+                entityManager.persist(MessageResult.builder()
+                        .campaign(campaign)
+                        .generation(generation)
+                        .targetGroupIndex(1)
+                        .targetName("전체")
+                        .messageDraftIndex(i)
+                        .messageText("초안 " + generation + "-" + i)
+                        .isSelected(false)
+                        .build());
+            }
+        }
+        return campaign;
+    }
+}
@@ -0,0 +1,119 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.PerformanceStatus;
+import com.experience_program.be.repository.CampaignRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 같은 캠페인에 대한 두 상태 전이를 서로 다른 트랜잭션에서 동시에 실행해,
+ * 한쪽만 반영되고 집계에도 반영된 전이 하나만 기록되는지 검증한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(CampaignService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CampaignStatusTransitionRaceTest {
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private CampaignStatusRollupService campaignStatusRollupService;
+
+    // 상태 전이 경로에서 쓰지 않는 외부 연동 빈
+    @MockitoBean
+    private AiGateway aiGateway;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private GenerationJobService generationJobService;
+
+    @MockitoBean
+    private KnowledgeCache knowledgeCache;
+
+    @MockitoBean
+    private KnowledgeMirrorService knowledgeMirrorService;
+
+    @AfterEach
+    void tearDown() {
+        campaignRepository.deleteAll();
+    }
+
+    // 재생성 결과(COMPLETED)와 늦은 실패(FAILED)가 둘 다 REFINING을 읽은 뒤 경쟁: 먼저 커밋한 쪽만 반영
+    @Test
+    void onlyOneOfTwoRacingTransitionsWins() throws Exception {
+        UUID campaignId = campaignRepository.save(Campaign.builder()
+                .marketerId("marketer-1")
+                .purpose("봄맞이 할인")
+                .status(CampaignStatus.REFINING)
+                .performanceStatus(PerformanceStatus.UNDECIDED)
+                .currentGeneration(1)
+                .build()).getCampaignId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstTransitioned = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        // 첫 전이는 UPDATE까지 실행한 뒤 커밋하지 않고 대기
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            boolean won = campaignService.transitionStatus(campaignId, CampaignStatus.COMPLETED);
+            firstTransitioned.countDown();
+            await(releaseFirst);
+            return won;
+        }));
+        assertThat(firstTransitioned.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 두 번째 전이는 커밋 전 상태(REFINING)를 읽고 같은 행의 UPDATE에서 첫 전이의 커밋을 기다림
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                campaignService.transitionStatus(campaignId, CampaignStatus.FAILED)));
+        Thread.sleep(200);
+        releaseFirst.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(campaignRepository.findById(campaignId)).get()
+                .extracting(Campaign::getStatus).isEqualTo(CampaignStatus.COMPLETED);
+        verify(campaignStatusRollupService).recordTransition(any(), eq(CampaignStatus.REFINING), eq(CampaignStatus.COMPLETED));
+        verify(campaignStatusRollupService, never()).recordTransition(any(), any(), eq(CampaignStatus.FAILED));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.CampaignListItemDto;
+import com.experience_program.be.entity.Campaign;
+import com.experience_program.be.entity.CampaignStatus;
+import com.experience_program.be.entity.MessageResult;
+import com.experience_program.be.entity.PerformanceStatus;
+import com.experience_program.be.repository.CampaignRepository;
+import com.experience_program.be.repository.MessageResultRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/campaigns?q= 전문 검색을 실제 MySQL(ngram 파서)에서 한국어/영어 말뭉치로 검증한다.
+ * 재현율(찾아야 할 캠페인을 모두 찾는지)과 관련도 순서, 그리고 두 FULLTEXT 인덱스를 모두 사용하는지(실행 계획)를 확인한다.
+ */
+@SpringBootTest(properties = {
+        "ai.jobs.poll-interval-ms=3600000",
+        "drafts.prune-interval-ms=3600000",
+        "chat.retention.sweep-interval-ms=3600000",
+        "knowledge.mirror.reconcile-initial-delay-ms=3600000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CampaignTextSearchTest {
+
+    private static final int FILLER_CAMPAIGNS = 2000;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private MessageResultRepository messageResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID springSale;
+    private UUID springSaleWithDraft;
+    private UUID netflixDraftOnly;
+    private UUID staleDraftOnly;
+    private UUID premiumPlan;
+    private UUID familyDataSharing;
+
+    // InnoDB 전문 검색 인덱스는 커밋된 데이터만 반영하므로 테스트 트랜잭션 없이 저장
+    @BeforeAll
+    void seedCorpus() {
+        springSale = campaign("봄맞이 요금제 할인", "3월 한 달간 월 요금 20% 할인", CampaignStatus.COMPLETED, 1).getCampaignId();
+
+        Campaign withDraft = campaign("봄맞이 할인 안내", "데이터 쿠폰 증정", CampaignStatus.MESSAGE_SELECTED, 1);
+        draft(withDraft, 1, "봄맞이 할인! 지금 가입하면 첫 달 요금 할인");
+        springSaleWithDraft = withDraft.getCampaignId();
+
+        Campaign netflix = campaign("신규 가입자 유치", "5G 요금제 가입 혜택", CampaignStatus.COMPLETED, 1);
+        draft(netflix, 1, "5G 요금제 가입하고 넷플릭스 3개월 무료로 즐기세요");
+        netflixDraftOnly = netflix.getCampaignId();
+
+        // 현재 세대가 2이므로 1세대 초안의 단어로는 검색되지 않아야 함
+        Campaign stale = campaign("장기 고객 감사", "멤버십 포인트 적립", CampaignStatus.COMPLETED, 2);
+        draft(stale, 1, "유튜브 프리미엄 무료 체험 이벤트");
+        draft(stale, 2, "장기 고객님께 멤버십 포인트 두 배 적립");
+        staleDraftOnly = stale.getCampaignId();
+
+        premiumPlan = campaign("Premium plan upsell", "Upgrade to the premium unlimited plan and get a free tablet",
+                CampaignStatus.COMPLETED, 1).getCampaignId();
+        familyDataSharing = campaign("Family data sharing", "Share data across family lines with a bonus 10GB",
+                CampaignStatus.FAILED, 1).getCampaignId();
+
+        List<Campaign> fillers = new ArrayList<>();
+        for (int i = 0; i < FILLER_CAMPAIGNS; i++) {
+            fillers.add(newCampaign("일반 안내 " + i, "요금 청구서 발송 일정 안내 " + i, CampaignStatus.COMPLETED, 1));
+        }
+        campaignRepository.saveAll(fillers);
+        jdbcTemplate.execute("ANALYZE TABLE campaigns, message_results");
+    }
+
+    @Test
+    void findsKoreanMatchesInPurposeBenefitAndCurrentDrafts() {
+        assertThat(search("할인", null)).containsExactlyInAnyOrder(springSale, springSaleWithDraft);
+        assertThat(search("넷플릭스", null)).containsExactly(netflixDraftOnly);
+        assertThat(search("포인트", null)).containsExactly(staleDraftOnly);
+    }
+
+    @Test
+    void ignoresDraftsFromOlderGenerations() {
+        assertThat(search("유튜브", null)).isEmpty();
+    }
+
+    @Test
+    void findsEnglishMatches() {
+        assertThat(search("premium", null)).containsExactly(premiumPlan);
+        assertThat(search("family data", null)).containsExactly(familyDataSharing);
+    }
+
+    @Test
+    void ranksCampaignsMatchingBothCampaignTextAndDraftFirst() {
+        assertThat(search("봄맞이 할인", null)).first().isEqualTo(springSaleWithDraft);
+    }
+
+    @Test
+    void appliesListFiltersToSearchResults() {
+        assertThat(search("할인", "MESSAGE_SELECTED")).containsExactly(springSaleWithDraft);
+        assertThat(search("family", "COMPLETED")).isEmpty();
+    }
+
+    @Test
+    void countsTotalMatchesForPaging() {
+        Page<CampaignListItemDto> page = campaignService.getAllCampaigns(null, null, null, null, null, null, "할인", PageRequest.of(0, 1));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).hasSize(1);
+    }
+
+    // 두 MATCH가 각각 campaigns/message_results의 FULLTEXT 인덱스로 실행되어야 캠페인 수에 비례해 느려지지 않음
+    @Test
+    void usesBothFullTextIndexes() {
+        String sql = "EXPLAIN SELECT BIN_TO_UUID(c.campaign_id) " + CampaignRepository.TEXT_SEARCH_FROM
+                .replace(":q", "'할인'")
+                .replace(":status", "NULL")
+                .replace(":purpose", "NULL")
+                .replace(":marketerId", "NULL")
+                .replace(":fromDate", "NULL")
+                .replace(":toDate", "NULL");
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(sql);
+
+        assertThat(plan).anySatisfy(row -> {
+            assertThat(row.get("table")).isEqualTo("cm");
+            assertThat(row.get("type")).isEqualTo("fulltext");
+        });
+        assertThat(plan).anySatisfy(row -> {
+            assertThat(row.get("table")).isEqualTo("m");
+            assertThat(row.get("type")).isEqualTo("fulltext");
+        });
+        assertThat(plan).noneSatisfy(row -> {
+            assertThat(row.get("table")).isEqualTo("c");
+            assertThat(row.get("type")).isEqualTo("ALL");
+        });
+    }
+
+    private List<UUID> search(String q, String status) {
+        return campaignService.getAllCampaigns(null, null, null, status, null, null, q, PageRequest.of(0, 20))
+                .getContent().stream()
+                .map(CampaignListItemDto::getCampaignId)
+                .toList();
+    }
+
+    private Campaign campaign(String purpose, String coreBenefitText, CampaignStatus status, int currentGeneration) {
+        return campaignRepository.save(newCampaign(purpose, coreBenefitText, status, currentGeneration));
+    }
+
+    private Campaign newCampaign(String purpose, String coreBenefitText, CampaignStatus status, int currentGeneration) {
+        return Campaign.builder()
+                .marketerId("marketer-1")
+                .purpose(purpose)
+                .coreBenefitText(coreBenefitText)
+                .status(status)
+                .requestDate(LocalDateTime.now())
+                .performanceStatus(PerformanceStatus.UNDECIDED)
+                .currentGeneration(currentGeneration)
+                .build();
+    }
+
+    private void draft(Campaign campaign, int generation, String messageText) {
+        messageResultRepository.save(MessageResult.builder()
+                .campaign(campaign)
+                .generation(generation)
+                .targetGroupIndex(1)
+                .targetName("전체")
+                .messageDraftIndex(1)
+                .messageText(messageText)
+                .isSelected(false)
+                .build());
+    }
+}
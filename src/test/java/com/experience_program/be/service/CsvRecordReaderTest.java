@@ -0,0 +1,113 @@
+package com.experience_program.be.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readsPlainFields() throws IOException {
+        assertThat(readAll("a,b,c\n1,2,3\n")).containsExactly(
+                List.of("a", "b", "c"),
+                List.of("1", "2", "3"));
+    }
+
+    @Test
+    void keepsCommasAndNewlinesInsideQuotes() throws IOException {
+        assertThat(readAll("id,notes\n1,\"좋음, 재집행\"\n2,\"첫 줄\n둘째 줄\r\n셋째 줄\"\n")).containsExactly(
+                List.of("id", "notes"),
+                List.of("1", "좋음, 재집행"),
+                List.of("2", "첫 줄\n둘째 줄\r\n셋째 줄"));
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        assertThat(readAll("\"say \"\"hi\"\"\",\"\"\"\",\"\"\n")).containsExactly(
+                List.of("say \"hi\"", "\"", ""));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(readAll(",a,,\n")).containsExactly(List.of("", "a", "", ""));
+    }
+
+    @Test
+    void acceptsLfCrAndCrlfLineEndings() throws IOException {
+        List<List<String>> expected = List.of(List.of("a", "b"), List.of("1", "2"), List.of("3", "4"));
+
+        assertThat(readAll("a,b\n1,2\n3,4\n")).isEqualTo(expected);
+        assertThat(readAll("a,b\r1,2\r3,4\r")).isEqualTo(expected);
+        assertThat(readAll("a,b\r\n1,2\r\n3,4\r\n")).isEqualTo(expected);
+        assertThat(readAll("a,b\r\n1,2\n3,4\r")).isEqualTo(expected);
+    }
+
+    @Test
+    void readsTrailingLineWithoutNewline() throws IOException {
+        assertThat(readAll("a,b\n1,2")).containsExactly(List.of("a", "b"), List.of("1", "2"));
+        assertThat(readAll("a,\"b\"")).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void returnsBlankLineAsSingleEmptyField() throws IOException {
+        assertThat(readAll("a\n\nb\n")).containsExactly(List.of("a"), List.of(""), List.of("b"));
+    }
+
+    @Test
+    void skipsByteOrderMarkBeforeHeader() throws IOException {
+        assertThat(readAll("\uFEFFcampaign_id,actual_ctr\n\uFEFFx,1\n")).containsExactly(
+                List.of("campaign_id", "actual_ctr"),
+                List.of("\uFEFFx", "1"));
+    }
+
+    @Test
+    void rejectsUnclosedQuote() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\n1,\"never closed\n2,3\n"));
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2행");
+    }
+
+    @Test
+    void rejectsOverlongRecord() {
+        String huge = "\"" + "x".repeat(64 * 1024 + 1);
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(huge));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void countsRecordsNotPhysicalLines() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("h\n\"multi\nline\"\nlast\n"));
+
+        reader.next();
+        reader.next();
+        assertThat(reader.getRecordNumber()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("last");
+        assertThat(reader.getRecordNumber()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void returnsNullForEmptyInput() throws IOException {
+        assertThat(new CsvRecordReader(new StringReader("")).next()).isNull();
+    }
+
+    private List<List<String>> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
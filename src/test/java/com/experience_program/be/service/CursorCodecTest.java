@@ -0,0 +1,83 @@
+package com.experience_program.be.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsSortKeys() {
+        LocalDateTime requestDate = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+        UUID campaignId = UUID.randomUUID();
+
+        String cursor = CursorCodec.encode(requestDate, campaignId);
+        String[] keys = CursorCodec.decode(cursor, 2);
+
+        assertThat(LocalDateTime.parse(keys[0])).isEqualTo(requestDate);
+        assertThat(UUID.fromString(keys[1])).isEqualTo(campaignId);
+    }
+
+    @Test
+    void roundTripsNonAsciiAndEmptyKeys() {
+        String[] keys = CursorCodec.decode(CursorCodec.encode("대화 세션", ""), 2);
+
+        assertThat(keys).containsExactly("대화 세션", "");
+    }
+
+    @Test
+    void producesUrlSafeTokens() {
+        String cursor = CursorCodec.encode(LocalDateTime.now(), UUID.randomUUID());
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsTokensThatAreNotBase64() {
+        assertThatThrownBy(() -> CursorCodec.decode("not a cursor!", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void rejectsWrongNumberOfKeys() {
+        String cursor = CursorCodec.encode("2025-03-01T09:30", "a", "b");
+
+        assertThatThrownBy(() -> CursorCodec.decode(cursor, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTamperedKeys() {
+        String cursor = CursorCodec.encode("2025-03-01T09:30", "00000000-0000-0000-0000-000000000001");
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.replace("2025-03-01", "2030-01-01").getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorCodec.decode(tampered, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsCursorWithoutChecksum() {
+        String unsigned = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-03-01T09:30\n00000000-0000-0000-0000-000000000001".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorCodec.decode(unsigned, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTruncatedCursor() {
+        String cursor = CursorCodec.encode(LocalDateTime.now(), UUID.randomUUID());
+
+        assertThatThrownBy(() -> CursorCodec.decode(cursor.substring(0, cursor.length() - 4), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
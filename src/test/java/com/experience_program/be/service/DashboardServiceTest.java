@@ -0,0 +1,46 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.MonthlyStatusCountDto;
+import com.experience_program.be.entity.CampaignStatusMonthlyCount;
+import com.experience_program.be.entity.CampaignStatusMonthlyCountId;
+import com.experience_program.be.repository.CampaignRepository;
+import com.experience_program.be.repository.MessageResultRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+
+    private final CampaignStatusRollupService rollupService = mock(CampaignStatusRollupService.class);
+    private final DashboardService service = new DashboardService(
+            mock(CampaignRepository.class), mock(MessageResultRepository.class), rollupService);
+
+    // V11 이관으로 집계 테이블에 들어온 예전 상태 값은 건너뛰고 나머지 행으로 요약을 만든다
+    @Test
+    void skipsUnknownStatusesInRollup() {
+        YearMonth currentMonth = YearMonth.now();
+        String month = currentMonth.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        when(rollupService.getCountsSince(currentMonth.minusMonths(5))).thenReturn(List.of(
+                row(month, "COMPLETED", 3),
+                row(month, "ARCHIVED", 7),
+                row(month, "RAG_REGISTERED", 2)));
+
+        List<MonthlyStatusCountDto> summary = service.getMonthlyCampaignSummary();
+
+        assertThat(summary).hasSize(6);
+        MonthlyStatusCountDto current = summary.get(summary.size() - 1);
+        assertThat(current.getMonth()).isEqualTo(month);
+        assertThat(current.getOngoingCount()).isEqualTo(3);
+        assertThat(current.getCompletedCount()).isEqualTo(2);
+    }
+
+    private CampaignStatusMonthlyCount row(String month, String status, long count) {
+        return new CampaignStatusMonthlyCount(new CampaignStatusMonthlyCountId(month, status), count);
+    }
+}
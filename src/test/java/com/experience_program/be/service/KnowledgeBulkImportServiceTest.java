@@ -0,0 +1,130 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.dto.KnowledgeBulkSummaryDto;
+import com.experience_program.be.dto.KnowledgeRequestDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KnowledgeBulkImportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KnowledgeService knowledgeService = mock(KnowledgeService.class);
+    private final List<String> registeredIds = new ArrayList<>();
+    private KnowledgeBulkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new KnowledgeBulkImportService(knowledgeService, mock(KnowledgeCache.class), objectMapper, 2, 1);
+        when(knowledgeService.register(any(KnowledgeRequestDto.class), anyString())).thenAnswer(invocation -> {
+            KnowledgeRequestDto request = invocation.getArgument(0);
+            if (request.getCampaignSummary().startsWith("down")) {
+                return Mono.error(new AiServerUnavailableException("circuit open"));
+            }
+            if (request.getCampaignSummary().startsWith("bad")) {
+                return Mono.error(new IllegalArgumentException("rejected"));
+            }
+            String knowledgeId = invocation.getArgument(1);
+            registeredIds.add(knowledgeId);
+            return Mono.just(knowledgeId);
+        });
+    }
+
+    @Test
+    void derivesSameIdFromSameContentRegardlessOfKeyOrder() throws Exception {
+        run("""
+                {"campaign_summary":"봄 할인","campaign_details":{"a":1,"b":{"x":true,"y":2}}}
+                {"campaign_details":{"b":{"y":2,"x":true},"a":1},"campaign_summary":"봄 할인"}
+                {"campaign_summary":"여름 할인","campaign_details":{"a":1}}
+                """, 1);
+
+        assertThat(registeredIds).hasSize(3);
+        assertThat(registeredIds.get(0)).startsWith("knowledge-").isEqualTo(registeredIds.get(1));
+        assertThat(registeredIds.get(2)).isNotEqualTo(registeredIds.get(0));
+    }
+
+    @Test
+    void usesClientSuppliedId() throws Exception {
+        run("""
+                {"knowledge_id":"doc-42","campaign_summary":"봄 할인"}
+                """, 1);
+
+        assertThat(registeredIds).containsExactly("doc-42");
+    }
+
+    @Test
+    void resumingFromNextLineRegistersSameIds() throws Exception {
+        String body = """
+                {"campaign_summary":"a"}
+                {"campaign_summary":"b"}
+                {"campaign_summary":"c"}
+                """;
+        run(body, 1);
+        List<String> firstRun = new ArrayList<>(registeredIds);
+        registeredIds.clear();
+
+        run(body, 2);
+
+        assertThat(registeredIds).containsExactlyElementsOf(firstRun.subList(1, 3));
+    }
+
+    @Test
+    void abortsWhenAiServerIsUnavailableAndReportsFirstUnprocessedLine() throws Exception {
+        Report report = run("""
+                {"campaign_summary":"a"}
+                {"campaign_summary":"bad"}
+                {"campaign_summary":"c"}
+                {"campaign_summary":"down"}
+                {"campaign_summary":"e"}
+                """, 1);
+
+        assertThat(report.summary().getNextLine()).isEqualTo(4);
+        assertThat(report.summary().getRegistered()).isEqualTo(2);
+        assertThat(report.summary().getFailed()).isEqualTo(1);
+        assertThat(report.summary().getError()).contains("circuit open");
+        assertThat(report.lines()).extracting(line -> line.get("line").asLong()).containsExactly(1L, 2L, 3L);
+        assertThat(registeredIds).hasSize(2);
+    }
+
+    @Test
+    void reportsNextLineAfterEndWhenFinished() throws Exception {
+        Report report = run("""
+                {"campaign_summary":"a"}
+
+                not json
+                """, 1);
+
+        assertThat(report.summary().getNextLine()).isEqualTo(4);
+        assertThat(report.summary().getRegistered()).isEqualTo(1);
+        assertThat(report.summary().getFailed()).isEqualTo(1);
+        assertThat(report.summary().getError()).isNull();
+    }
+
+    private Report run(String body, long fromLine) throws Exception {
+        StringWriter writer = new StringWriter();
+        KnowledgeBulkSummaryDto summary = service.importNdjson(new BufferedReader(new StringReader(body)), writer, fromLine);
+        List<JsonNode> lines = new ArrayList<>();
+        String[] written = writer.toString().split("\n");
+        for (int i = 0; i < written.length - 1; i++) {
+            lines.add(objectMapper.readTree(written[i]));
+        }
+        return new Report(summary, lines);
+    }
+
+    private record Report(KnowledgeBulkSummaryDto summary, List<JsonNode> lines) {
+    }
+}
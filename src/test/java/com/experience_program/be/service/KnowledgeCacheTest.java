@@ -0,0 +1,57 @@
+package com.experience_program.be.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KnowledgeCacheTest {
+
+    private final KnowledgeCache cache = new KnowledgeCache(new SimpleMeterRegistry(), 60_000, 100);
+
+    @Test
+    void sharesLoadedValueForSameKey() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Object first = cache.get("q", () -> Mono.just("v" + loads.incrementAndGet())).block();
+        Object second = cache.get("q", () -> Mono.just("v" + loads.incrementAndGet())).block();
+
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsAfterInvalidateAll() {
+        cache.get("q", () -> Mono.just("old")).block();
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("q", () -> Mono.just("new")).block()).isEqualTo("new");
+    }
+
+    @Test
+    void discardsLoadThatStartedBeforeInvalidateAll() {
+        CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        CompletableFuture<Object> staleResult = cache.get("q", () -> Mono.fromFuture(inFlight)).toFuture();
+
+        cache.invalidateAll();
+        inFlight.complete("stale");
+
+        assertThat(staleResult.join()).isEqualTo("stale");
+        assertThat(cache.get("q", () -> Mono.just("fresh")).block()).isEqualTo("fresh");
+    }
+
+    @Test
+    void doesNotCacheFailedLoads() {
+        Mono<Object> failing = cache.get("q", () -> Mono.error(new IllegalStateException("down")))
+                .onErrorReturn("failed");
+
+        assertThat(failing.block()).isEqualTo("failed");
+        assertThat(cache.get("q", () -> Mono.just("ok")).block()).isEqualTo("ok");
+    }
+}
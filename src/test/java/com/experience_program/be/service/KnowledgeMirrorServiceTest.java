@@ -0,0 +1,127 @@
+package com.experience_program.be.service;
+
+import com.experience_program.be.repository.KnowledgeBaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KnowledgeMirrorServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final KnowledgeBaseRepository repository = mock(KnowledgeBaseRepository.class);
+    private final AiGateway aiGateway = mock(AiGateway.class);
+    private final List<URI> requestedUris = new ArrayList<>();
+    private KnowledgeMirrorService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new KnowledgeMirrorService(repository, aiGateway, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), PAGE_SIZE, 1000);
+        when(repository.findExternalIdsUploadedBefore(any(), eq(""), any())).thenReturn(List.of("k1", "k2"));
+        when(repository.findExternalIdsUploadedBefore(any(), eq("k2"), any())).thenReturn(List.of("k9"));
+    }
+
+    @Test
+    void removesRowsMissingFromCompleteListing() {
+        respondWithPages(List.of(item("k1"), item("k2")), List.of(item("k3")), List.of());
+
+        service.reconcile();
+
+        verify(repository).deleteByExternalIdIn(List.of("k9"));
+        assertThat(service.isSynchronized()).isTrue();
+    }
+
+    @Test
+    void keepsPagingPastShortPagesUntilAnEmptyPage() {
+        respondWithPages(List.of(item("k1")), List.of(item("k2")), List.of(item("k9")), List.of());
+
+        service.reconcile();
+
+        assertThat(requestedUris).hasSize(4);
+        verify(repository, never()).deleteByExternalIdIn(anyCollection());
+        assertThat(service.isSynchronized()).isTrue();
+    }
+
+    @Test
+    void doesNotDeleteWhenListingIsEmpty() {
+        respondWithPages(List.of());
+
+        service.reconcile();
+
+        verify(repository, never()).deleteByExternalIdIn(anyCollection());
+        assertThat(service.isSynchronized()).isFalse();
+    }
+
+    @Test
+    void doesNotDeleteWhenItemsHaveNoId() {
+        respondWithPages(List.of(item("k1"), Map.of("title", "no id")), List.of());
+
+        service.reconcile();
+
+        verify(repository, never()).deleteByExternalIdIn(anyCollection());
+        assertThat(service.isSynchronized()).isFalse();
+    }
+
+    @Test
+    void doesNotDeleteWhenServerRepeatsTheSamePage() {
+        respondWithPages(List.of(item("k1"), item("k2")), List.of(item("k1"), item("k2")));
+
+        service.reconcile();
+
+        assertThat(requestedUris).hasSize(2);
+        verify(repository, never()).deleteByExternalIdIn(anyCollection());
+        assertThat(service.isSynchronized()).isFalse();
+    }
+
+    @Test
+    void doesNotDeleteWhenListingFailsMidway() {
+        when(aiGateway.listKnowledge(any()))
+                .thenReturn(Mono.just(Map.of("items", List.of(item("k1"), item("k2")))))
+                .thenReturn(Mono.error(new AiServerUnavailableException("down")));
+
+        service.reconcile();
+
+        verify(repository, never()).deleteByExternalIdIn(anyCollection());
+        assertThat(service.isSynchronized()).isFalse();
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void respondWithPages(List<Map<String, Object>>... pages) {
+        List<Mono<Object>> responses = Arrays.stream(pages)
+                .map(page -> Mono.<Object>just(Map.of("items", page)))
+                .toList();
+        when(aiGateway.listKnowledge(any())).thenAnswer(invocation -> {
+            Function<UriBuilder, URI> uriFunction = invocation.getArgument(0);
+            requestedUris.add(uriFunction.apply(new DefaultUriBuilderFactory().builder()));
+            int index = Math.min(requestedUris.size() - 1, responses.size() - 1);
+            return responses.get(index);
+        });
+    }
+
+    private Map<String, Object> item(String id) {
+        return Map.of("knowledge_id", id, "content_text", "내용 " + id);
+    }
+}